@@ -0,0 +1,153 @@
+package com.rajat_singh.leetcode_api.client;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.tinylog.Logger;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.Supplier;
+
+/**
+ * AIMD control of the {@code leetcode-api} limiter. Fast, successful responses grow limitForPeriod by
+ * roughly one permit per period; a 429, a 5xx, a read timeout or a Retry-After cuts it multiplicatively.
+ * The limit therefore settles just under what leetcode.com is willing to serve instead of a fixed guess.
+ * A Retry-After also pauses the {@link OutboundScheduler}, so nothing is sent until it has passed.
+ */
+@Component
+public class AdaptiveRateLimiter {
+
+    private static final String LIMITER_NAME = "leetcode-api";
+
+    private final RateLimiter rateLimiter;
+    private final OutboundScheduler outboundScheduler;
+    private final MeterRegistry meterRegistry;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double decreaseFactor;
+    private final Duration latencyThreshold;
+    private final long refreshPeriodNanos;
+
+    private double limit;
+    private long lastDecreaseNanos;
+    private long holdUntilNanos;
+
+    public AdaptiveRateLimiter(RateLimiterRegistry rateLimiterRegistry,
+                               OutboundScheduler outboundScheduler,
+                               MeterRegistry meterRegistry,
+                               @Value("${leetcode.rate-limit.min:2}") int minLimit,
+                               @Value("${leetcode.rate-limit.max:50}") int maxLimit,
+                               @Value("${leetcode.rate-limit.decrease-factor:0.5}") double decreaseFactor,
+                               @Value("${leetcode.rate-limit.latency-threshold:1500ms}") Duration latencyThreshold) {
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(LIMITER_NAME);
+        this.outboundScheduler = outboundScheduler;
+        this.meterRegistry = meterRegistry;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.decreaseFactor = decreaseFactor;
+        this.latencyThreshold = latencyThreshold;
+        this.refreshPeriodNanos = rateLimiter.getRateLimiterConfig().getLimitRefreshPeriod().toNanos();
+        this.limit = rateLimiter.getRateLimiterConfig().getLimitForPeriod();
+        this.lastDecreaseNanos = System.nanoTime() - refreshPeriodNanos;
+        this.holdUntilNanos = System.nanoTime();
+        meterRegistry.gauge("leetcode.client.rate.limit", this, AdaptiveRateLimiter::getCurrentLimit);
+    }
+
+    /*
+     * Runs one upstream call and feeds its outcome back into the limit. Permits are taken by the caller.
+     */
+    public <T> T record(Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            onSuccess(Duration.ofNanos(System.nanoTime() - start));
+            return result;
+        } catch (RestClientResponseException e) {
+            int status = e.getStatusCode().value();
+            if (status == 429 || e.getStatusCode().is5xxServerError()) {
+                onBackoff(status == 429 ? "throttled" : "server_error", retryAfter(e.getResponseHeaders()));
+            }
+            throw e;
+        } catch (ResourceAccessException e) {
+            if (e.getCause() instanceof SocketTimeoutException) {
+                onBackoff("timeout", null);
+            }
+            throw e;
+        }
+    }
+
+    public int getCurrentLimit() {
+        return rateLimiter.getRateLimiterConfig().getLimitForPeriod();
+    }
+
+    private synchronized void onSuccess(Duration latency) {
+        if (latency.compareTo(latencyThreshold) > 0 || System.nanoTime() - holdUntilNanos < 0) {
+            return;
+        }
+        // +1/limit per success is about +1 per period while we are using the whole budget
+        limit = Math.min(maxLimit, limit + 1.0 / limit);
+        apply();
+    }
+
+    private synchronized void onBackoff(String reason, Duration retryAfter) {
+        Counter.builder("leetcode.client.rate.backoffs")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+
+        long now = System.nanoTime();
+        if (retryAfter != null) {
+            // upstream told us exactly how long to stay away: stop issuing until then, and restart from the floor
+            limit = minLimit;
+            if (now + retryAfter.toNanos() - holdUntilNanos > 0) {
+                holdUntilNanos = now + retryAfter.toNanos();
+            }
+            lastDecreaseNanos = now;
+            outboundScheduler.pauseUntil(holdUntilNanos);
+            rateLimiter.drainPermissions();
+            Logger.warn("LeetCode asked us to back off for {}, limit now {}/period", retryAfter, minLimit);
+        } else if (now - lastDecreaseNanos >= refreshPeriodNanos) {
+            // a burst of failures from the same period is one congestion signal, not many
+            limit = Math.max(minLimit, limit * decreaseFactor);
+            lastDecreaseNanos = now;
+            Logger.warn("LeetCode responded {}, reducing limit to {}/period", reason, (int) limit);
+        }
+        apply();
+    }
+
+    private void apply() {
+        int permits = (int) limit;
+        if (permits != getCurrentLimit()) {
+            rateLimiter.changeLimitForPeriod(permits);
+        }
+    }
+
+    private Duration retryAfter(HttpHeaders headers) {
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                Duration untilDate = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return untilDate.isNegative() ? Duration.ZERO : untilDate;
+            } catch (DateTimeParseException ignored) {
+                Logger.debug("Unparseable Retry-After header: {}", value);
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.rajat_singh.leetcode_api.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A GraphQL request body with everything but the variables serialized once up front.
+ * The query from {@link com.rajat_singh.leetcode_api.graphql.GraphQlQueries} is minified and
+ * encoded together with the operation name into a constant JSON prefix, so a call only has to
+ * append its variables.
+ */
+public final class GraphQlRequestTemplate {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern SPACE_AROUND_PUNCTUATION = Pattern.compile(" ?([{}():,!=\\[\\]]) ?");
+    private static final byte[] SUFFIX = "}".getBytes(StandardCharsets.UTF_8);
+
+    @Getter
+    private final String operationName;
+    private final byte[] prefix;
+
+    private GraphQlRequestTemplate(String operationName, byte[] prefix) {
+        this.operationName = operationName;
+        this.prefix = prefix;
+    }
+
+    /*
+     * operationName may be null for anonymous single-operation documents (e.g. the POTD query).
+     * The writer must not indent, or the constant prefix and the variables would carry the padding.
+     */
+    public static GraphQlRequestTemplate of(ObjectWriter writer, String operationName, String query) {
+        Map<String, Object> constantPart = new LinkedHashMap<>();
+        if (operationName != null) {
+            constantPart.put("operationName", operationName);
+        }
+        constantPart.put("query", minify(query));
+        try {
+            String json = writer.writeValueAsString(constantPart);
+            // drop the closing brace and leave the object open for the variables
+            String prefix = json.substring(0, json.length() - 1) + ",\"variables\":";
+            return new GraphQlRequestTemplate(operationName, prefix.getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize GraphQL query " + operationName, e);
+        }
+    }
+
+    /*
+     * Writes the constant prefix followed by the serialized variables (or null).
+     */
+    public byte[] render(ObjectWriter writer, Object variables) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(prefix.length + 128);
+        try {
+            out.write(prefix);
+            writer.writeValue(out, variables);
+            out.write(SUFFIX);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to serialize variables for " + operationName, e);
+        }
+        return out.toByteArray();
+    }
+
+    /*
+     * GraphQL ignores insignificant whitespace, and none of our queries contain string literals,
+     * so collapsing runs of whitespace and dropping it around punctuation is safe.
+     */
+    static String minify(String query) {
+        String collapsed = WHITESPACE.matcher(query).replaceAll(" ").strip();
+        return SPACE_AROUND_PUNCTUATION.matcher(collapsed).replaceAll("$1");
+    }
+}
@@ -0,0 +1,77 @@
+package com.rajat_singh.leetcode_api.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.tinylog.Logger;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for upstream calls: while a call for a given operation + variables is in flight,
+ * identical calls wait for its result instead of issuing (and paying a rate-limiter permit for) their own.
+ */
+@Component
+public class InFlightRequestCoalescer {
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedCalls = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+
+    public InFlightRequestCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("leetcode.client.inflight", inFlight, Map::size);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operationName, Map<String, ?> variables, Supplier<T> call) {
+        String key = operationName + new TreeMap<>(variables);
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalescedCalls.incrementAndGet();
+            Counter.builder("leetcode.client.coalesced.calls")
+                    .tag("operation", operationName)
+                    .register(meterRegistry)
+                    .increment();
+            Logger.debug("Joining in-flight upstream call {}", key);
+            return (T) join(existing);
+        }
+
+        try {
+            T result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /*
+     * Number of callers that were served by another caller's upstream request since startup.
+     */
+    public long getCoalescedCalls() {
+        return coalescedCalls.get();
+    }
+
+    private Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,144 +1,199 @@
 package com.rajat_singh.leetcode_api.client;
 
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.rajat_singh.leetcode_api.dto.*;
+import com.rajat_singh.leetcode_api.enums.OutboundLane;
 import com.rajat_singh.leetcode_api.enums.UserContestType;
 import com.rajat_singh.leetcode_api.enums.questions.FilterOperator;
 import com.rajat_singh.leetcode_api.enums.questions.SortField;
 import com.rajat_singh.leetcode_api.enums.questions.SortOrder;
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.servlet.function.ServerRequest;
 import org.tinylog.Logger;
 
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static com.rajat_singh.leetcode_api.graphql.GraphQlQueries.*;
 
 @Service
 public class LeetCodeClient {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired
+    @Qualifier("leetCodeRestTemplate")
+    private RestTemplate restTemplate;
+
+    @Autowired
+    @Qualifier("leetCodeBulkRestTemplate")
+    private RestTemplate bulkRestTemplate;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private InFlightRequestCoalescer coalescer;
+
+    @Autowired
+    private AdaptiveRateLimiter adaptiveRateLimiter;
+
+    @Autowired
+    private OutboundScheduler outboundScheduler;
+
+    @Autowired
+    @Qualifier("leetCodeClientExecutor")
+    private Executor asyncExecutor;
+
     @Value("${leetcode.graphql.url}")
     private String leetcodeApiUrl;
 
+    @Value("${leetcode.contests.page-size:10}")
+    private int contestPageSize;
+
+    @Value("${leetcode.contests.fetch-concurrency:4}")
+    private int contestFetchConcurrency;
+
     /*
-     * Fetches user progress data from LeetCode.
+     * Everything that does not change between calls is built once: the headers, each query minified and
+     * pre-encoded with its operation name, and the two constant catalog request bodies.
      */
-    @RateLimiter(name = "leetcode-api")
-    public UserProgressResponse fetchUserProgress(String username) {
+    private HttpHeaders requestHeaders;
+    private ObjectWriter variablesWriter;
+    private GraphQlRequestTemplate userProgressTemplate;
+    private GraphQlRequestTemplate languageStatsTemplate;
+    private GraphQlRequestTemplate publicInfoTemplate;
+    private GraphQlRequestTemplate fullProfileTemplate;
+    private GraphQlRequestTemplate contestRankingTemplate;
+    private GraphQlRequestTemplate contestRankingWithHistoryTemplate;
+    private GraphQlRequestTemplate contestHistoryOnlyTemplate;
+    private GraphQlRequestTemplate questionListTemplate;
+    private GraphQlRequestTemplate badgesTemplate;
+    private GraphQlRequestTemplate skillStatsTemplate;
+    private GraphQlRequestTemplate recentSubmissionsTemplate;
+    private GraphQlRequestTemplate calendarTemplate;
+    private GraphQlRequestTemplate potdTemplate;
+    private GraphQlRequestTemplate pastContestsTemplate;
+    private final Map<Integer, GraphQlRequestTemplate> contestRankingBatchTemplates = new ConcurrentHashMap<>();
+    private byte[] allQuestionsBody;
+    private byte[] allQuestionsForAcRateBody;
+
+    @PostConstruct
+    void initRequestTemplates() {
         HttpHeaders headers = new HttpHeaders();
         setHeader(headers);
+        requestHeaders = HttpHeaders.readOnlyHttpHeaders(headers);
+        variablesWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+
+        userProgressTemplate = template("userProfileUserQuestionProgressV2", userProgressQuery);
+        languageStatsTemplate = template("languageStats", UserLanguageStatsQuery);
+        publicInfoTemplate = template("userPublicProfile", UserPublicInfoQuery);
+        fullProfileTemplate = template("userFullProfile", USER_FULL_PROFILE_QUERY);
+        contestRankingTemplate = template("userContestRanking", USER_CONTEST_RANKING);
+        contestRankingWithHistoryTemplate = template("userContestRankingInfo", USER_CONTEST_RANKING_WITH_HISTORY);
+        contestHistoryOnlyTemplate = template("userContestRankingInfo", USER_CONTEST_RANKING_HISTORY_ONLY);
+        questionListTemplate = template("problemsetQuestionListV2", FETCH_QUESTIONS_QUERY);
+        badgesTemplate = template("userBadges", FETCH_USER_BADGES_QUERY);
+        skillStatsTemplate = template("skillStats", FETCH_USER_SKILL_STATS);
+        recentSubmissionsTemplate = template("recentAcSubmissions", FETCH_USER_RECENT_SUBMISSIONS);
+        calendarTemplate = template("userProfileCalendar", FETCH_USER_CALENDAR_SUBMISSIONS);
+        potdTemplate = template(null, FETCH_POTD);
+        pastContestsTemplate = template("pastContests", FETCH_ALL_PAST_CONTESTS);
+
+        allQuestionsBody = questionListTemplate.render(variablesWriter, allQuestionsVariables());
+        allQuestionsForAcRateBody = template("problemsetQuestionListV2", FETCH_QUESTIONS_FOR_AC_RATE_SYNC_QUERY)
+                .render(variablesWriter, allQuestionsVariables());
+    }
 
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("query", userProgressQuery);
-
-        Map<String, Object> variables = new HashMap<>();
-        variables.put("userSlug", username);
-        requestBody.put("variables", variables);
-        requestBody.put("operationName", "userProfileUserQuestionProgressV2");
-
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-        return restTemplate.postForObject(leetcodeApiUrl, entity, UserProgressResponse.class);
+    /*
+     * Fetches user progress data from LeetCode.
+     */
+    public UserProgressResponse fetchUserProgress(String username) {
+        return coalesced(userProgressTemplate, Map.of("userSlug", username), UserProgressResponse.class);
     }
 
     /*
      * Fetches user language statistics from LeetCode.
      */
-    @RateLimiter(name = "leetcode-api")
     public UserLanguageStats fetchUserLanguageStats(String username) {
-        HttpHeaders headers = new HttpHeaders();
-        setHeader(headers);
-
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("query", UserLanguageStatsQuery);
-
-        Map<String, Object> variables = new HashMap<>();
-        variables.put("username", username);
-        requestBody.put("variables", variables);
-        requestBody.put("operationName", "languageStats");
-
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-        return restTemplate.postForObject(leetcodeApiUrl, entity, UserLanguageStats.class);
+        return coalesced(languageStatsTemplate, Map.of("username", username), UserLanguageStats.class);
     }
 
-    @RateLimiter(name = "leetcode-api")
     public UserPublicInfo fetchUserPublicInfo(String username){
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        Map<String,Object> requestBody = new HashMap<>();
-        requestBody.put("query", UserPublicInfoQuery);
-
-        Map<String, Object> variables = new HashMap<>();
-        variables.put("username", username);
-        requestBody.put("variables", variables);
-        requestBody.put("operationName", "userPublicProfile");
+        return coalesced(publicInfoTemplate, Map.of("username", username), UserPublicInfo.class);
+    }
 
-        HttpEntity<Map<String ,Object>> entity = new HttpEntity<>(requestBody, headers);
-        return restTemplate.postForObject(leetcodeApiUrl,entity,UserPublicInfo.class);
+    /*
+     * Fetches progress, language stats, public info, badges and skill stats in a single aliased request.
+     */
+    public UserFullProfileResponse fetchUserFullProfile(String username) {
+        return coalesced(fullProfileTemplate, Map.of("username", username), UserFullProfileResponse.class);
     }
 
     /*
     * Fetches user contest ranking based on the specified history status.
     */
-    @RateLimiter(name = "leetcode-api")
     public UserContestResponse fetchUserContestRanking(String username, UserContestType historyStatus) {
+        GraphQlRequestTemplate template = switch (historyStatus) {
+            case INCLUDE_CONTEST_HISTORY -> contestRankingWithHistoryTemplate;
+            case EXCLUDE_CONTEST_HISTORY -> contestRankingTemplate;
+            case ONLY_CONTEST_HISTORY -> contestHistoryOnlyTemplate;
+        };
+        // both history variants share an operation name, so the status is part of the coalescing key
+        return coalesced("userContestRanking:" + historyStatus, template, Map.of("username", username), UserContestResponse.class);
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        setHeader(headers);
-
-        Map<String,Object> requestBody = new HashMap<>();
-
-        String query = "";
-        switch (historyStatus){
-            case INCLUDE_CONTEST_HISTORY:
-                query = USER_CONTEST_RANKING_WITH_HISTORY;
-                break;
-            case EXCLUDE_CONTEST_HISTORY:
-                query = USER_CONTEST_RANKING;
-                break;
-            case ONLY_CONTEST_HISTORY:
-                query = USER_CONTEST_RANKING_HISTORY_ONLY;
-                break;
-            default:
-                Logger.warn("History Status not matched with any existing type.");
-        }
-        requestBody.put("query", query);
+    /*
+     * Fetches the contest ranking of several users in one request. Callers are expected to keep the
+     * list to a sensible document size; the returned map is keyed by username and holds null for
+     * users that do not exist or have never taken part in a contest.
+     */
+    public Map<String, UserContestRanking> fetchUserContestRankings(List<String> usernames) {
+        GraphQlRequestTemplate template = contestRankingBatchTemplates.computeIfAbsent(usernames.size(),
+                size -> template("userContestRankingBatch", userContestRankingBatchQuery(size)));
 
         Map<String, Object> variables = new HashMap<>();
-        variables.put("username", username);
-        requestBody.put("variables", variables);
-        requestBody.put("operationName", historyStatus.equals(UserContestType.EXCLUDE_CONTEST_HISTORY)?"userContestRanking" : "userContestRankingInfo");
+        for (int i = 0; i < usernames.size(); i++) {
+            variables.put("u" + i, usernames.get(i));
+        }
+        byte[] body = template.render(variablesWriter, variables);
+        UserContestRankingBatchResponse response = rateLimited(OutboundLane.INTERACTIVE, () -> post(restTemplate, body, UserContestRankingBatchResponse.class));
 
-        HttpEntity<Map<String,Object>> entity = new HttpEntity<>(requestBody, headers);
-        return restTemplate.postForObject(leetcodeApiUrl, entity, UserContestResponse.class);
+        Map<String, UserContestRanking> rankings = new HashMap<>();
+        for (int i = 0; i < usernames.size(); i++) {
+            UserContestRanking ranking = (response == null || response.getData() == null) ? null : response.getData().get("u" + i);
+            rankings.put(usernames.get(i), ranking);
+        }
+        return rankings;
     }
 
     /*
     * Fetches a list of questions from LeetCode based on the provided parameters.
     */
-    @RateLimiter(name = "leetcode-api")
     public QuestionListResponse fetchQuestionList(int skip, int limit, String categorySlug, String searchKeyword, QuestionSearchRequest.SortingCriteria sortBy, QuestionSearchRequest.FilterCriteria filters) {
-        HttpHeaders headers = new HttpHeaders();
-        setHeader(headers);
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("query", FETCH_QUESTIONS_QUERY);
-        requestBody.put("operationName", "problemsetQuestionListV2");
-
         Map<String, Object> variables = new HashMap<>();
         variables.put("skip", skip);
         variables.put("limit", limit);
@@ -146,23 +201,66 @@ public class LeetCodeClient {
         variables.put("searchKeyword", searchKeyword);
         variables.put("sortBy", sortBy);
         variables.put("filters", filters);
-        requestBody.put("variables", variables);
-
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-        return restTemplate.postForObject(leetcodeApiUrl, entity, QuestionListResponse.class);
+        byte[] body = questionListTemplate.render(variablesWriter, variables);
+        return rateLimited(OutboundLane.INTERACTIVE, () -> post(restTemplate, body, QuestionListResponse.class));
     }
 
     /*
     * Fetches all questions from LeetCode with a high limit.
     */
-    @RateLimiter(name = "leetcode-api")
     public QuestionListResponse fetchAllQuestions(Boolean forAcRateSync) {
-        HttpHeaders headers = new HttpHeaders();
-        setHeader(headers);
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("query", forAcRateSync? FETCH_QUESTIONS_FOR_AC_RATE_SYNC_QUERY : FETCH_QUESTIONS_QUERY);
-        requestBody.put("operationName", "problemsetQuestionListV2");
+        byte[] body = forAcRateSync ? allQuestionsForAcRateBody : allQuestionsBody;
+        return rateLimited(OutboundLane.BULK, () -> post(bulkRestTemplate, body, QuestionListResponse.class));
+    }
+
+    /*
+     * Streaming variant of fetchAllQuestions: the response is read with a JsonParser and the questions are
+     * handed to the sink in batches of at most batchSize as soon as they are parsed, so memory stays flat
+     * however large the catalog gets. Returns the number of questions delivered.
+     */
+    public int streamAllQuestions(boolean forAcRateSync, int batchSize, Consumer<List<QuestionListResponse.Question>> sink) {
+        byte[] body = forAcRateSync ? allQuestionsForAcRateBody : allQuestionsBody;
+        Integer count = rateLimited(OutboundLane.BULK, () -> bulkRestTemplate.execute(leetcodeApiUrl, HttpMethod.POST,
+                request -> {
+                    request.getHeaders().putAll(requestHeaders);
+                    request.getBody().write(body);
+                },
+                response -> readQuestions(response.getBody(), batchSize, sink)));
+        return count == null ? 0 : count;
+    }
 
+    private int readQuestions(InputStream in, int batchSize, Consumer<List<QuestionListResponse.Question>> sink) throws IOException {
+        int count = 0;
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            // skip ahead to data.problemsetQuestionListV2.questions
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && "questions".equals(parser.currentName())) {
+                    break;
+                }
+            }
+            if (token == null || parser.nextToken() != JsonToken.START_ARRAY) {
+                Logger.warn("No questions array found in LeetCode response");
+                return 0;
+            }
+            List<QuestionListResponse.Question> batch = new ArrayList<>(batchSize);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                batch.add(objectMapper.readValue(parser, QuestionListResponse.Question.class));
+                if (batch.size() == batchSize) {
+                    sink.accept(batch);
+                    count += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                sink.accept(batch);
+                count += batch.size();
+            }
+        }
+        return count;
+    }
+
+    private Map<String, Object> allQuestionsVariables() {
         Map<String, Object> variables = new HashMap<>();
         variables.put("skip", 0);
         variables.put("limit", 10000);
@@ -187,10 +285,42 @@ public class LeetCodeClient {
                         .operator(FilterOperator.IS)
                         .build())
                 .build());
-        requestBody.put("variables", variables);
+        return variables;
+    }
+
+    /*
+     * Per-user lookups go through the single-flight coalescer first and only then take a permit from the
+     * leetcode-api limiter, so callers that join an in-flight request do not spend outbound budget. The lane
+     * is part of the key: an interactive caller must not join a prefetch or bulk flight that may still be
+     * waiting minutes for its permit.
+     */
+    private <T> T coalesced(GraphQlRequestTemplate template, Map<String, Object> variables, Class<T> responseType) {
+        return coalesced(template.getOperationName(), template, variables, responseType);
+    }
 
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-        return restTemplate.postForObject(leetcodeApiUrl, entity, QuestionListResponse.class);
+    private <T> T coalesced(String key, GraphQlRequestTemplate template, Map<String, Object> variables, Class<T> responseType) {
+        OutboundLane lane = OutboundScheduler.laneFor(OutboundLane.INTERACTIVE);
+        return coalescer.execute(key + ":" + lane, variables,
+                () -> rateLimited(lane, () -> post(restTemplate, template.render(variablesWriter, variables), responseType)));
+    }
+
+    /*
+     * Explicit rather than @RateLimiter so the limit also applies when a method is invoked from inside this
+     * class, e.g. by the *Async variants. The permit comes from the outbound scheduler in the caller's lane
+     * (defaultLane unless overridden with OutboundScheduler.callAs), and every outcome is reported to the
+     * adaptive limiter, which tunes the permits per period of the same leetcode-api limiter.
+     */
+    private <T> T rateLimited(OutboundLane defaultLane, Supplier<T> call) {
+        outboundScheduler.acquire(OutboundScheduler.laneFor(defaultLane));
+        return adaptiveRateLimiter.record(call);
+    }
+
+    private <T> T post(RestTemplate client, byte[] body, Class<T> responseType) {
+        return client.postForObject(leetcodeApiUrl, new HttpEntity<>(body, requestHeaders), responseType);
+    }
+
+    private GraphQlRequestTemplate template(String operationName, String query) {
+        return GraphQlRequestTemplate.of(variablesWriter, operationName, query);
     }
 
     /*
@@ -203,135 +333,136 @@ public class LeetCodeClient {
         headers.add("Origin", "https://leetcode.com");
     }
 
-    @RateLimiter(name = "leetcode-api")
     public UsersBadgeListResponse fetchUserBadgesList(String username) {
-        HttpHeaders headers = new HttpHeaders();
-        setHeader(headers);
-
-        Map<String,Object> requestBody = new HashMap<>();
-        requestBody.put("query", FETCH_USER_BADGES_QUERY);
-
-        Map<String, Object> variables = new HashMap<>();
-        variables.put("username", username);
-        requestBody.put("variables", variables);
-        requestBody.put("operationName", "userBadges");
-
-        HttpEntity<Map<String ,Object>> entity = new HttpEntity<>(requestBody, headers);
-        return restTemplate.postForObject(leetcodeApiUrl,entity,UsersBadgeListResponse.class);
+        return coalesced(badgesTemplate, Map.of("username", username), UsersBadgeListResponse.class);
     }
 
-    @RateLimiter(name = "leetcode-api")
     public UserSkillStatsResponse fetchUserSkillStats(String username) {
-        HttpHeaders headers = new HttpHeaders();
-        setHeader(headers);
-
-        Map<String,Object> requestBody = new HashMap<>();
-        requestBody.put("query", FETCH_USER_SKILL_STATS);
-
-        Map<String, Object> variables = new HashMap<>();
-        variables.put("username", username);
-        requestBody.put("variables", variables);
-        requestBody.put("operationName", "skillStats");
-
-        HttpEntity<Map<String ,Object>> entity = new HttpEntity<>(requestBody, headers);
-        return restTemplate.postForObject(leetcodeApiUrl,entity,UserSkillStatsResponse.class);
+        return coalesced(skillStatsTemplate, Map.of("username", username), UserSkillStatsResponse.class);
     }
 
-    @RateLimiter(name = "leetcode-api")
     public UserRecentSubmissionsResponse fetchUserRecentSubmissions(String username,int limit) {
-        HttpHeaders headers = new HttpHeaders();
-        setHeader(headers);
-
-        Map<String,Object> requestBody = new HashMap<>();
-        requestBody.put("query", FETCH_USER_RECENT_SUBMISSIONS);
-
-        Map<String, Object> variables = new HashMap<>();
-        variables.put("username", username);
-        variables.put("limit", limit);
-        requestBody.put("variables", variables);
-        requestBody.put("operationName", "recentAcSubmissions");
-
-        HttpEntity<Map<String ,Object>> entity = new HttpEntity<>(requestBody, headers);
-        return restTemplate.postForObject(leetcodeApiUrl,entity,UserRecentSubmissionsResponse.class);
+        return coalesced(recentSubmissionsTemplate, Map.of("username", username, "limit", limit), UserRecentSubmissionsResponse.class);
     }
 
-    @RateLimiter(name = "leetcode-api")
     public UserLeetCodeCalendarResponse fetchUserLeetCodeCalendar(String username, int year) {
-        HttpHeaders headers = new HttpHeaders();
-        setHeader(headers);
-
-        Map<String,Object> requestBody = new HashMap<>();
-        requestBody.put("query", FETCH_USER_CALENDAR_SUBMISSIONS);
-
-        Map<String, Object> variables = new HashMap<>();
-        variables.put("username", username);
-        variables.put("year", year);
-        requestBody.put("variables", variables);
-        requestBody.put("operationName", "userProfileCalendar");
-
-        HttpEntity<Map<String ,Object>> entity = new HttpEntity<>(requestBody, headers);
-        return restTemplate.postForObject(leetcodeApiUrl,entity,UserLeetCodeCalendarResponse.class);
+        return coalesced(calendarTemplate, Map.of("username", username, "year", year), UserLeetCodeCalendarResponse.class);
     }
 
-    @RateLimiter(name = "leetcode-api")
     public DailyCodingChallengeResponse fetchDailyCodingChallengeQuestions() {
-        HttpHeaders headers = new HttpHeaders();
-        setHeader(headers);
-
-        Map<String,Object> requestBody = new HashMap<>();
-        requestBody.put("query", FETCH_POTD);
-
-        HttpEntity<Map<String ,Object>> entity = new HttpEntity<>(requestBody, headers);
-        return restTemplate.postForObject(leetcodeApiUrl,entity,DailyCodingChallengeResponse.class);
+        byte[] body = potdTemplate.render(variablesWriter, null);
+        return rateLimited(OutboundLane.BULK, () -> post(restTemplate, body, DailyCodingChallengeResponse.class));
     }
 
-    @RateLimiter(name = "leetcode-api")
+    /*
+     * Fetches every page of past contests. The first page tells us pageNum; the rest are fetched
+     * concurrently (each taking its own leetcode-api permit) and stitched back together in page order.
+     */
     public List<ContestsDTO.ContestData> fetchAllPastContest() {
-
-        int pageNo = 1;
-        int numPerPage = 10;
+        ContestsDTO firstPage = fetchPageRateLimited(1);
+        Logger.info("Fetched page 1 of past contests");
 
         List<ContestsDTO.ContestData> combined = new ArrayList<>();
+        if (!hasContests(firstPage)) return combined;
+        combined.addAll(firstPage.getData().getPastContests().getData());
+
+        int totalPages = firstPage.getData().getPastContests().getPageNum();
+        if (totalPages <= 1) return combined;
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(contestFetchConcurrency, totalPages - 1));
+        try {
+            List<CompletableFuture<ContestsDTO>> pages = new ArrayList<>();
+            for (int pageNo = 2; pageNo <= totalPages; pageNo++) {
+                int page = pageNo;
+                pages.add(CompletableFuture.supplyAsync(() -> {
+                    ContestsDTO response = fetchPageRateLimited(page);
+                    Logger.info("Fetched page {} of {} of past contests", page, totalPages);
+                    return response;
+                }, executor));
+            }
+            for (CompletableFuture<ContestsDTO> page : pages) {
+                ContestsDTO response = page.join();
+                if (!hasContests(response)) break;
+                combined.addAll(response.getData().getPastContests().getData());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
 
-        while (true) {
-            ContestsDTO response = fetchPage(pageNo, numPerPage);
-
-            Logger.info("Fetched page {} of past contests", pageNo);
+        return combined;
+    }
 
-            if (response == null || response.getData() == null) break;
+    private ContestsDTO fetchPageRateLimited(int pageNo) {
+        return rateLimited(OutboundLane.BULK, () -> fetchPage(pageNo, contestPageSize));
+    }
 
-            List<ContestsDTO.ContestData> pageData = response.getData().getPastContests().getData();
+    private boolean hasContests(ContestsDTO response) {
+        return response != null && response.getData() != null && response.getData().getPastContests() != null
+                && response.getData().getPastContests().getData() != null
+                && !response.getData().getPastContests().getData().isEmpty();
+    }
 
-            if (pageData == null || pageData.isEmpty()) break;
+    private ContestsDTO fetchPage(int pageNo, int numPerPage) {
+        byte[] body = pastContestsTemplate.render(variablesWriter, Map.of("pageNo", pageNo, "numPerPage", numPerPage));
+        return post(bulkRestTemplate, body, ContestsDTO.class);
+    }
 
-            combined.addAll(pageData);
+    /*
+     * Non-blocking variants of the fetch* methods. The blocking call (limiter wait + round trip) runs on
+     * leetCodeClientExecutor, so the caller's thread is free as soon as the future is returned.
+     */
+    public CompletableFuture<UserProgressResponse> fetchUserProgressAsync(String username) {
+        return async(() -> fetchUserProgress(username));
+    }
 
-            int current = response.getData().getPastContests().getCurrentPage();
-            int total = response.getData().getPastContests().getPageNum();
+    public CompletableFuture<UserLanguageStats> fetchUserLanguageStatsAsync(String username) {
+        return async(() -> fetchUserLanguageStats(username));
+    }
 
-            if (current >= total) break;
+    public CompletableFuture<UserPublicInfo> fetchUserPublicInfoAsync(String username) {
+        return async(() -> fetchUserPublicInfo(username));
+    }
 
-            pageNo++;
-        }
+    public CompletableFuture<UserFullProfileResponse> fetchUserFullProfileAsync(String username) {
+        return async(() -> fetchUserFullProfile(username));
+    }
 
-        return combined;
+    public CompletableFuture<UserContestResponse> fetchUserContestRankingAsync(String username, UserContestType historyStatus) {
+        return async(() -> fetchUserContestRanking(username, historyStatus));
     }
 
-    public ContestsDTO fetchPage(int pageNo, int numPerPage) {
+    public CompletableFuture<Map<String, UserContestRanking>> fetchUserContestRankingsAsync(List<String> usernames) {
+        return async(() -> fetchUserContestRankings(usernames));
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        setHeader(headers);
+    public CompletableFuture<QuestionListResponse> fetchQuestionListAsync(int skip, int limit, String categorySlug, String searchKeyword, QuestionSearchRequest.SortingCriteria sortBy, QuestionSearchRequest.FilterCriteria filters) {
+        return async(() -> fetchQuestionList(skip, limit, categorySlug, searchKeyword, sortBy, filters));
+    }
 
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("query", FETCH_ALL_PAST_CONTESTS);
-        requestBody.put("operationName", "pastContests");
-        requestBody.put("variables", Map.of("pageNo", pageNo, "numPerPage", numPerPage));
+    public CompletableFuture<UsersBadgeListResponse> fetchUserBadgesListAsync(String username) {
+        return async(() -> fetchUserBadgesList(username));
+    }
 
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+    public CompletableFuture<UserSkillStatsResponse> fetchUserSkillStatsAsync(String username) {
+        return async(() -> fetchUserSkillStats(username));
+    }
 
-        return restTemplate.postForObject(leetcodeApiUrl, entity, ContestsDTO.class);
+    public CompletableFuture<UserRecentSubmissionsResponse> fetchUserRecentSubmissionsAsync(String username, int limit) {
+        return async(() -> fetchUserRecentSubmissions(username, limit));
     }
 
+    public CompletableFuture<UserLeetCodeCalendarResponse> fetchUserLeetCodeCalendarAsync(String username, int year) {
+        return async(() -> fetchUserLeetCodeCalendar(username, year));
+    }
 
+    public CompletableFuture<DailyCodingChallengeResponse> fetchDailyCodingChallengeQuestionsAsync() {
+        return async(this::fetchDailyCodingChallengeQuestions);
+    }
 
-}
\ No newline at end of file
+    private <T> CompletableFuture<T> async(Supplier<T> call) {
+        // carry a callAs lane override over to the executor thread
+        OutboundLane lane = OutboundScheduler.laneFor(null);
+        Supplier<T> task = lane == null ? call : () -> OutboundScheduler.callAs(lane, call);
+        return CompletableFuture.supplyAsync(task, asyncExecutor);
+    }
+}
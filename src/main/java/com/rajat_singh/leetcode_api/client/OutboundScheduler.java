@@ -0,0 +1,188 @@
+package com.rajat_singh.leetcode_api.client;
+
+import com.rajat_singh.leetcode_api.enums.OutboundLane;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Hands out {@code leetcode-api} permits by lane. Interactive calls take permits straight from the limiter,
+ * exactly as before. Prefetch and bulk calls only take a permit while more than the interactive reserve
+ * (interactive-share of the current limit) is left in the period, and only when no higher lane is waiting,
+ * so a contest crawl soaks up the spare budget without ever eating into what user requests need.
+ * While leetcode.com's Retry-After is running (see {@link #pauseUntil}) no lane gets a permit at all.
+ */
+@Component
+public class OutboundScheduler {
+
+    private static final ThreadLocal<OutboundLane> LANE_OVERRIDE = new ThreadLocal<>();
+
+    private final RateLimiter rateLimiter;
+    private final double interactiveShare;
+    private final long interactiveMaxWaitNanos;
+    private final long prefetchMaxWaitNanos;
+    private final long backgroundMaxWaitNanos;
+    private final long pollNanos;
+    private final ReentrantLock backgroundLock = new ReentrantLock();
+    private final Map<OutboundLane, AtomicInteger> waiting = new EnumMap<>(OutboundLane.class);
+    private final Map<OutboundLane, Timer> waitTimers = new EnumMap<>(OutboundLane.class);
+    private final Map<OutboundLane, Counter> rejections = new EnumMap<>(OutboundLane.class);
+    private volatile long pausedUntilNanos = System.nanoTime();
+
+    @Autowired
+    public OutboundScheduler(RateLimiterRegistry rateLimiterRegistry,
+                             MeterRegistry meterRegistry,
+                             @Value("${leetcode.lanes.interactive-share:0.3}") double interactiveShare,
+                             @Value("${leetcode.lanes.prefetch-max-wait:5s}") Duration prefetchMaxWait,
+                             @Value("${leetcode.lanes.background-max-wait:5m}") Duration backgroundMaxWait) {
+        this(rateLimiterRegistry.rateLimiter("leetcode-api"), meterRegistry, interactiveShare, prefetchMaxWait, backgroundMaxWait);
+    }
+
+    OutboundScheduler(RateLimiter rateLimiter, MeterRegistry meterRegistry, double interactiveShare,
+                      Duration prefetchMaxWait, Duration backgroundMaxWait) {
+        this.rateLimiter = rateLimiter;
+        this.interactiveShare = interactiveShare;
+        this.interactiveMaxWaitNanos = rateLimiter.getRateLimiterConfig().getTimeoutDuration().toNanos();
+        this.prefetchMaxWaitNanos = prefetchMaxWait.toNanos();
+        this.backgroundMaxWaitNanos = backgroundMaxWait.toNanos();
+        this.pollNanos = Math.max(Duration.ofMillis(1).toNanos(),
+                rateLimiter.getRateLimiterConfig().getLimitRefreshPeriod().toNanos() / 20);
+
+        for (OutboundLane lane : OutboundLane.values()) {
+            String tag = lane.name().toLowerCase();
+            AtomicInteger counter = new AtomicInteger();
+            waiting.put(lane, counter);
+            meterRegistry.gauge("leetcode.client.lane.waiting", Tags.of("lane", tag), counter);
+            waitTimers.put(lane, Timer.builder("leetcode.client.lane.wait")
+                    .tag("lane", tag)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
+            rejections.put(lane, Counter.builder("leetcode.client.lane.rejected")
+                    .tag("lane", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    /*
+     * Runs call with lane as the priority of every outbound request it makes on this thread, overriding
+     * the default of the client method being used.
+     */
+    public static <T> T callAs(OutboundLane lane, Supplier<T> call) {
+        OutboundLane previous = LANE_OVERRIDE.get();
+        LANE_OVERRIDE.set(lane);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                LANE_OVERRIDE.remove();
+            } else {
+                LANE_OVERRIDE.set(previous);
+            }
+        }
+    }
+
+    /*
+     * The lane a call with the given default should run in: the callAs override if one is active.
+     */
+    public static OutboundLane laneFor(OutboundLane defaultLane) {
+        OutboundLane override = LANE_OVERRIDE.get();
+        return override != null ? override : defaultLane;
+    }
+
+    /*
+     * Issues no permits before deadlineNanos (System.nanoTime based), e.g. for the length of a Retry-After.
+     * A later pause already in place is kept.
+     */
+    public synchronized void pauseUntil(long deadlineNanos) {
+        if (deadlineNanos - pausedUntilNanos > 0) {
+            pausedUntilNanos = deadlineNanos;
+        }
+    }
+
+    /*
+     * Blocks until lane may spend one permit. Interactive calls wait at most the limiter's timeoutDuration,
+     * prefetch calls at most prefetch-max-wait and bulk calls at most background-max-wait; all throw
+     * RequestNotPermitted when that runs out, or straight away when a pause outlasts it. Prefetches run on
+     * the executor shared with the async controllers, so they give up quickly rather than hold its threads;
+     * a refresh-ahead cache keeps serving the old value when its reload fails.
+     */
+    public void acquire(OutboundLane lane) {
+        AtomicInteger waitingInLane = waiting.get(lane);
+        waitingInLane.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            long maxWaitNanos = switch (lane) {
+                case INTERACTIVE -> interactiveMaxWaitNanos;
+                case PREFETCH -> prefetchMaxWaitNanos;
+                case BULK -> backgroundMaxWaitNanos;
+            };
+            boolean permitted = awaitPause(start + maxWaitNanos) && (lane == OutboundLane.INTERACTIVE
+                    ? rateLimiter.acquirePermission()
+                    : acquireBackground(lane, start, maxWaitNanos));
+            if (!permitted) {
+                rejections.get(lane).increment();
+                throw RequestNotPermitted.createRequestNotPermitted(rateLimiter);
+            }
+        } finally {
+            waitingInLane.decrementAndGet();
+            waitTimers.get(lane).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /*
+     * Waits out a pause, false without waiting if it runs past deadlineNanos.
+     */
+    private boolean awaitPause(long deadlineNanos) {
+        long remaining;
+        while ((remaining = pausedUntilNanos - System.nanoTime()) > 0) {
+            if (pausedUntilNanos - deadlineNanos > 0) {
+                return false;
+            }
+            LockSupport.parkNanos(remaining);
+        }
+        return true;
+    }
+
+    private boolean acquireBackground(OutboundLane lane, long start, long maxWaitNanos) {
+        while (System.nanoTime() - start < maxWaitNanos) {
+            if (!higherLaneWaiting(lane)) {
+                backgroundLock.lock();
+                try {
+                    int reserve = (int) Math.ceil(rateLimiter.getRateLimiterConfig().getLimitForPeriod() * interactiveShare);
+                    if (rateLimiter.getMetrics().getAvailablePermissions() > reserve && rateLimiter.acquirePermission()) {
+                        return true;
+                    }
+                } finally {
+                    backgroundLock.unlock();
+                }
+            }
+            LockSupport.parkNanos(pollNanos);
+        }
+        return false;
+    }
+
+    private boolean higherLaneWaiting(OutboundLane lane) {
+        for (OutboundLane other : OutboundLane.values()) {
+            if (other.ordinal() < lane.ordinal() && waiting.get(other).get() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,70 +1,168 @@
 package com.rajat_singh.leetcode_api.config;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import com.rajat_singh.leetcode_api.repository.ContestHistoryRepository;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.rajat_singh.leetcode_api.service.ContestHistoryCleanupService;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.rajat_singh.leetcode_api.service.LeetCodeContestService;
+import com.rajat_singh.leetcode_api.service.ContestSchedule;
+import com.rajat_singh.leetcode_api.service.ResponseCacheStore;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.unit.DataSize;
 import org.tinylog.Logger;
 
 import java.time.Duration;
-import java.time.DayOfWeek;
-import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 @EnableScheduling
 @Configuration
 public class CacheConfig {
 
+    private static final List<String> USER_CACHES = List.of(
+            "userProfileCache", "userLanguageStatsCache", "userPublicInfoCache", "userBadgesCache", "userSkillStatsCache",
+            "userRecentSubmissionsCache", "userCalendarCache");
 
     private final ContestHistoryCleanupService cleanupService;
+    private final UserCacheProperties userCacheProperties;
+    private final ContestSchedule contestSchedule;
+    private final ResponseCacheStore responseCacheStore;
+    // the loaders call back into the service, which itself needs the cache manager
+    private final ObjectProvider<LeetCodeContestService> contestService;
+    private final CacheMetrics cacheMetrics;
 
-    public CacheConfig(ContestHistoryCleanupService cleanupService) {
+    @Value("${leetcode.cache.l2.enabled:true}")
+    private boolean l2Enabled;
+
+    @Value("${leetcode.cache.contest.volatile-ttl:1h}")
+    private Duration contestVolatileTtl;
+
+    @Value("${leetcode.cache.contest.max-ttl:24h}")
+    private Duration contestMaxTtl;
+
+    @Value("${leetcode.cache.contest.refresh-after:30m}")
+    private Duration contestRefreshAfter;
+
+    @Value("${leetcode.cache.contest.history-max-weight:32MB}")
+    private DataSize contestHistoryMaxWeight;
+
+    @Value("${leetcode.cache.contest.ranking-max-weight:16MB}")
+    private DataSize contestRankingMaxWeight;
+
+    @Value("${leetcode.cache.contest.ranking-with-history-max-weight:64MB}")
+    private DataSize contestRankingWithHistoryMaxWeight;
+
+    public CacheConfig(ContestHistoryCleanupService cleanupService, UserCacheProperties userCacheProperties,
+                       ContestSchedule contestSchedule, ResponseCacheStore responseCacheStore,
+                       ObjectProvider<LeetCodeContestService> contestService, CacheMetrics cacheMetrics) {
         this.cleanupService = cleanupService;
+        this.userCacheProperties = userCacheProperties;
+        this.contestSchedule = contestSchedule;
+        this.responseCacheStore = responseCacheStore;
+        this.contestService = contestService;
+        this.cacheMetrics = cacheMetrics;
     }
 
     @Bean
     public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("contestHistoryCache","contestRankingCache","contestRankingWithHistoryCache");
-        cacheManager.setCaffeine(caffeineCacheBuilder());
-        return cacheManager;
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, AsyncCache<Object, Object> cache) {
+                return new RefreshAheadCaffeineCache(name, cache, isAllowNullValues());
+            }
+        };
+        // no shared builder: every cache is registered below with its own, so its stats carry its name
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache("contestHistoryCache", bindWeight("contestHistoryCache",
+                caffeineCacheBuilder("contestHistoryCache", contestHistoryMaxWeight).build()));
+        // Hot rankings are reloaded in the background once refresh-after has passed, and served meanwhile
+        cacheManager.registerCustomCache("contestRankingCache", bindWeight("contestRankingCache",
+                caffeineCacheBuilder("contestRankingCache", contestRankingMaxWeight)
+                        .refreshAfterWrite(contestRefreshAfter)
+                        .buildAsync(refreshAheadLoader("contestRankingCache",
+                                username -> contestService.getObject().reloadContestRanking(username)))));
+        cacheManager.registerCustomCache("contestRankingWithHistoryCache", bindWeight("contestRankingWithHistoryCache",
+                caffeineCacheBuilder("contestRankingWithHistoryCache", contestRankingWithHistoryMaxWeight)
+                        .refreshAfterWrite(contestRefreshAfter)
+                        .buildAsync(refreshAheadLoader("contestRankingWithHistoryCache",
+                                username -> contestService.getObject().reloadContestRankingWithHistory(username)))));
+        // User lookups have no DB rows behind them, so they skip the cleanup listener
+        for (String cacheName : USER_CACHES) {
+            cacheManager.registerCustomCache(cacheName, bindWeight(cacheName,
+                    userCacheBuilder(cacheName, userCacheProperties.specFor(cacheName)).build()));
+        }
+        // SQLite behind Caffeine, so a restart does not start from an empty cache
+        return l2Enabled ? new TwoLevelCacheManager(cacheManager, responseCacheStore) : cacheManager;
+    }
+
+    /*
+     * Boot only knows how to bind CaffeineCache; the two-level wrapper exposes the same native cache.
+     */
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return (cache, tags) -> new CaffeineCacheMetrics<>(cache.getNativeCache(), cache.getName(), tags);
     }
 
-    private Caffeine<Object, Object> caffeineCacheBuilder() {
-        DayOfWeek today = LocalDate.now().getDayOfWeek();
-        Duration expiryDuration = (today == DayOfWeek.WEDNESDAY)
-                ? Duration.ofHours(1)    // LeetCode updates rankings on Wednesday
-                : Duration.ofHours(24);
+    private Caffeine<Object, Object> userCacheBuilder(String cacheName, UserCacheProperties.Spec spec) {
+        // a variable expiry (rather than expireAfterWrite) lets entries promoted from L2 keep their remaining lifetime
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .expireAfter(new FixedTtlExpiry(spec.getTtl()))
+                .recordStats(() -> cacheMetrics.statsCounter(cacheName));
+        if (spec.getMaximumWeight() != null) {
+            return builder.maximumWeight(spec.getMaximumWeight().toBytes()).weigher(new RetainedSizeWeigher());
+        }
+        return builder.maximumSize(spec.getMaximumSize());
+    }
 
+    private Caffeine<Object, Object> caffeineCacheBuilder(String cacheName, DataSize maxWeight) {
+        // Lifetimes are worked out per write from the contest schedule, not once at startup
+        // Bounded by estimated heap, not entry count: one long contest history outweighs thousands of rankings
         return Caffeine.newBuilder()
-                .expireAfterWrite(expiryDuration)
-                .recordStats()
+                .expireAfter(contestExpiry())
+                .maximumWeight(maxWeight.toBytes())
+                .weigher(new RetainedSizeWeigher())
+                .recordStats(() -> cacheMetrics.statsCounter(cacheName))
                 .removalListener((key, value, cause) -> {
-                    if (key != null) {
-                        Logger.info("Evicting cache entry for user: {} due to {}", key, cause);
-                        try {
-                            cleanupService.evictUserContestData(key.toString());
-                        } catch (Exception e) {
-                            Logger.error(e, "Failed to evict DB data for user: {}", key);
-                        }
+                    // a replaced entry means the user is still cached, so their rows are still in use
+                    if (key != null && cause != RemovalCause.REPLACED) {
+                        Logger.debug("Evicting cache entry for user: {} due to {}", key, cause);
+                        cleanupService.enqueueEviction(key.toString());
                     }
                 });
     }
 
-    @Scheduled(fixedRate = 7200000) // every 2 hour
-    public void logCacheStats() {
-        CaffeineCacheManager caffeineCacheManager = (CaffeineCacheManager) cacheManager();
-        for(String cacheName : caffeineCacheManager.getCacheNames()) {
-            com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
-                    (com.github.benmanes.caffeine.cache.Cache<Object, Object>)
-                            caffeineCacheManager.getCache(cacheName).getNativeCache();
-            Logger.info("{} stats: {}", cacheName, nativeCache.stats());
-        }
+    private ContestAwareExpiry contestExpiry() {
+        return new ContestAwareExpiry(contestSchedule, contestVolatileTtl, contestMaxTtl);
     }
 
+    /*
+     * Reloads bypass TwoLevelCache, so with L2 on the loader writes them through to the store itself.
+     */
+    private RefreshAheadLoader refreshAheadLoader(String cacheName, Function<String, CompletableFuture<?>> reload) {
+        return l2Enabled
+                ? new RefreshAheadLoader(cacheName, reload, responseCacheStore, contestExpiry())
+                : new RefreshAheadLoader(cacheName, reload);
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> bindWeight(
+            String cacheName, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        cacheMetrics.bindWeight(cacheName, cache);
+        return cache;
+    }
 
+    private AsyncLoadingCache<Object, Object> bindWeight(String cacheName, AsyncLoadingCache<Object, Object> cache) {
+        cacheMetrics.bindWeight(cacheName, cache.synchronous());
+        return cache;
+    }
 }
@@ -0,0 +1,145 @@
+package com.rajat_singh.leetcode_api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.tinylog.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What the standard Caffeine binding (cache.gets, cache.puts, cache.evictions, cache.size) does not cover:
+ * load latency as a histogram, evictions split by cause and the current weight of each cache. Loads are
+ * recorded both for Caffeine's own loads and for the async paths that fetch and put by hand.
+ */
+@Component
+public class CacheMetrics {
+
+    private final MeterRegistry meterRegistry;
+    // CacheConfig builds its caches with our stats counters, so the manager is looked up lazily
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    public CacheMetrics(MeterRegistry meterRegistry, ObjectProvider<CacheManager> cacheManager) {
+        this.meterRegistry = meterRegistry;
+        this.cacheManager = cacheManager;
+    }
+
+    /*
+     * Stats counter for Caffeine.recordStats(): keeps cache.stats() working and feeds the meters below.
+     */
+    public StatsCounter statsCounter(String cacheName) {
+        return new MicrometerStatsCounter(cacheName);
+    }
+
+    public void recordLoad(String cacheName, long nanos, boolean success) {
+        loadTimer(cacheName, success).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /*
+     * Standard plus extra meters for a cache that lives outside the CacheManager. Boot tags the managed caches
+     * with cache.manager and name, and Prometheus needs the same tag keys on every series of a meter.
+     */
+    public void monitor(String cacheName, Cache<?, ?> cache) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName, Tags.of("cache.manager", "none", "name", cacheName));
+        bindWeight(cacheName, cache);
+    }
+
+    /*
+     * Weighted size when the cache has a weigher, otherwise its entry count.
+     */
+    public void bindWeight(String cacheName, Cache<?, ?> cache) {
+        Gauge.builder("cache.weight", cache, CacheMetrics::weightOf)
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+    }
+
+    private static double weightOf(Cache<?, ?> cache) {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(cache.estimatedSize()))
+                .orElseGet(cache::estimatedSize);
+    }
+
+    @Scheduled(fixedRate = 7200000) // every 2 hour
+    public void logCacheStats() {
+        CacheManager manager = cacheManager.getIfAvailable();
+        if (manager == null) {
+            return;
+        }
+        for (String cacheName : manager.getCacheNames()) {
+            org.springframework.cache.Cache cache = manager.getCache(cacheName);
+            if (cache != null && cache.getNativeCache() instanceof Cache<?, ?> nativeCache) {
+                Logger.info("{} stats: {}", cacheName, nativeCache.stats());
+            }
+        }
+    }
+
+    private Timer loadTimer(String cacheName, boolean success) {
+        return Timer.builder("cache.load.latency")
+                .tag("cache", cacheName)
+                .tag("result", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
+    private final class MicrometerStatsCounter implements StatsCounter {
+
+        private final String cacheName;
+        private final StatsCounter delegate = new ConcurrentStatsCounter();
+
+        private MicrometerStatsCounter(String cacheName) {
+            this.cacheName = cacheName;
+        }
+
+        @Override
+        public void recordHits(int count) {
+            delegate.recordHits(count);
+        }
+
+        @Override
+        public void recordMisses(int count) {
+            delegate.recordMisses(count);
+        }
+
+        @Override
+        public void recordLoadSuccess(long loadTime) {
+            delegate.recordLoadSuccess(loadTime);
+            recordLoad(cacheName, loadTime, true);
+        }
+
+        @Override
+        public void recordLoadFailure(long loadTime) {
+            delegate.recordLoadFailure(loadTime);
+            recordLoad(cacheName, loadTime, false);
+        }
+
+        @Override
+        public void recordEviction(int weight, RemovalCause cause) {
+            delegate.recordEviction(weight, cause);
+            Counter.builder("cache.evictions.by.cause")
+                    .tag("cache", cacheName)
+                    .tag("cause", cause.name().toLowerCase())
+                    .register(meterRegistry)
+                    .increment();
+        }
+
+        @Override
+        public CacheStats snapshot() {
+            return delegate.snapshot();
+        }
+    }
+}
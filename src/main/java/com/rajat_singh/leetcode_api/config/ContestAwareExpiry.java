@@ -0,0 +1,53 @@
+package com.rajat_singh.leetcode_api.config;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.rajat_singh.leetcode_api.service.ContestSchedule;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Lifetime of a contest cache entry, decided when it is written. Inside a rating window entries live for
+ * volatileTtl; outside one they live until the next contest end or window opening, capped at maxTtl.
+ */
+public class ContestAwareExpiry implements Expiry<Object, Object> {
+
+    private static final Duration MIN_TTL = Duration.ofMinutes(1);
+
+    private final ContestSchedule contestSchedule;
+    private final Duration volatileTtl;
+    private final Duration maxTtl;
+
+    public ContestAwareExpiry(ContestSchedule contestSchedule, Duration volatileTtl, Duration maxTtl) {
+        this.contestSchedule = contestSchedule;
+        this.volatileTtl = volatileTtl;
+        this.maxTtl = maxTtl;
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return ttlFrom(Instant.now()).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return ttlFrom(Instant.now()).toNanos();
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    Duration ttlFrom(Instant now) {
+        if (contestSchedule.inRatingWindow(now)) {
+            return volatileTtl;
+        }
+        Instant nextChange = contestSchedule.nextChange(now);
+        Duration untilChange = nextChange == null ? maxTtl : Duration.between(now, nextChange);
+        if (untilChange.compareTo(maxTtl) > 0) {
+            return maxTtl;
+        }
+        return untilChange.compareTo(MIN_TTL) < 0 ? MIN_TTL : untilChange;
+    }
+}
@@ -0,0 +1,33 @@
+package com.rajat_singh.leetcode_api.config;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+
+/**
+ * expireAfterWrite expressed as an {@link Expiry}. Caches built with a variable expiry let the L2 layer read an
+ * entry's remaining lifetime and restore it when an entry is promoted back into L1.
+ */
+public class FixedTtlExpiry implements Expiry<Object, Object> {
+
+    private final long ttlNanos;
+
+    public FixedTtlExpiry(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return ttlNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return ttlNanos;
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
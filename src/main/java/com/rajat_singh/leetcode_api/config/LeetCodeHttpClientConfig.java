@@ -0,0 +1,144 @@
+package com.rajat_singh.leetcode_api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * Outbound transport for {@link com.rajat_singh.leetcode_api.client.LeetCodeClient}.
+ * Every GraphQL POST goes to the same host, so a small pool of kept-alive connections
+ * lets us pay the TCP + TLS handshake once instead of on every call.
+ */
+@Configuration
+public class LeetCodeHttpClientConfig {
+
+    @Value("${leetcode.http.max-connections:20}")
+    private int maxConnections;
+
+    @Value("${leetcode.http.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${leetcode.http.connection-request-timeout:2s}")
+    private Duration connectionRequestTimeout;
+
+    @Value("${leetcode.http.response-timeout:5s}")
+    private Duration responseTimeout;
+
+    @Value("${leetcode.http.bulk-response-timeout:60s}")
+    private Duration bulkResponseTimeout;
+
+    @Value("${leetcode.http.keep-alive:30s}")
+    private Duration keepAlive;
+
+    @Value("${leetcode.http.validate-after-inactivity:2s}")
+    private Duration validateAfterInactivity;
+
+    @Value("${leetcode.async.pool-size:32}")
+    private int asyncPoolSize;
+
+    @Value("${leetcode.async.queue-capacity:500}")
+    private int asyncQueueCapacity;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager leetCodeConnectionManager() {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setValidateAfterInactivity(TimeValue.of(validateAfterInactivity))
+                .build();
+
+        // All traffic goes to a single route (leetcode.com:443), so the per-route cap is the pool size.
+        // One shared TLS strategy means one SSLContext, so JSSE can resume sessions on new connections.
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultConnectionConfig(connectionConfig)
+                .setTlsSocketStrategy(ClientTlsStrategyBuilder.create().useSystemProperties().buildClassic())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient leetCodeHttpClient(PoolingHttpClientConnectionManager leetCodeConnectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                .setResponseTimeout(Timeout.of(responseTimeout))
+                .setConnectionKeepAlive(TimeValue.of(keepAlive))
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(leetCodeConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(keepAlive))
+                .build();
+    }
+
+    /*
+     * Used for the per-user lookups, which are small and should fail fast.
+     */
+    @Bean
+    public RestTemplate leetCodeRestTemplate(CloseableHttpClient leetCodeHttpClient) {
+        return new RestTemplate(requestFactory(leetCodeHttpClient, responseTimeout));
+    }
+
+    /*
+     * Shares the same pool but allows the large catalog and contest sync responses more time.
+     */
+    @Bean
+    public RestTemplate leetCodeBulkRestTemplate(CloseableHttpClient leetCodeHttpClient) {
+        return new RestTemplate(requestFactory(leetCodeHttpClient, bulkResponseTimeout));
+    }
+
+    @Bean
+    public PoolingHttpClientConnectionManagerMetricsBinder leetCodeConnectionPoolMetrics(
+            @Qualifier("leetCodeConnectionManager") PoolingHttpClientConnectionManager leetCodeConnectionManager,
+            MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManagerMetricsBinder binder =
+                new PoolingHttpClientConnectionManagerMetricsBinder(leetCodeConnectionManager, "leetcode-api");
+        binder.bindTo(meterRegistry);
+        return binder;
+    }
+
+    /*
+     * Runs the blocking upstream calls behind the *Async client methods, so Tomcat request threads are
+     * released while we wait on the limiter and on leetcode.com. Bounded on both sides: a full queue
+     * rejects instead of piling up work the limiter could never serve in time.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor leetCodeClientExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(asyncPoolSize);
+        executor.setMaxPoolSize(asyncPoolSize);
+        executor.setQueueCapacity(asyncQueueCapacity);
+        executor.setThreadNamePrefix("leetcode-client-");
+        executor.initialize();
+        return executor;
+    }
+
+    private HttpComponentsClientHttpRequestFactory requestFactory(CloseableHttpClient httpClient, Duration readTimeout) {
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        factory.setConnectionRequestTimeout(connectionRequestTimeout);
+        factory.setReadTimeout(readTimeout);
+        return factory;
+    }
+}
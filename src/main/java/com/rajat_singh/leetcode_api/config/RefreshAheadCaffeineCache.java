@@ -0,0 +1,21 @@
+package com.rajat_singh.leetcode_api.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * A CaffeineCache over an {@link com.github.benmanes.caffeine.cache.AsyncLoadingCache} that is only used for
+ * its refreshAfterWrite. Lookups stay plain getIfPresent calls (which is also what triggers a refresh of a
+ * stale entry), so a miss still falls through to the @Cacheable method or the L2 tier instead of the loader.
+ */
+public class RefreshAheadCaffeineCache extends CaffeineCache {
+
+    public RefreshAheadCaffeineCache(String name, AsyncCache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        return getNativeCache().getIfPresent(key);
+    }
+}
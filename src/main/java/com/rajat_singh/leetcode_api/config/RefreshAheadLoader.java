@@ -0,0 +1,63 @@
+package com.rajat_singh.leetcode_api.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.rajat_singh.leetcode_api.service.ResponseCacheStore;
+import org.tinylog.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/*
+ * Reloads a stale entry of a refresh-ahead cache in the background. A failed reload keeps the old value,
+ * which is served until the next access retries or the hard expiry removes it. A successful one replaces
+ * the value in Caffeine behind the TwoLevelCache, so it is also written to the L2 store (when there is one)
+ * with the lifetime the cache's expiry gives an update, as TwoLevelCache.put would.
+ */
+public class RefreshAheadLoader implements AsyncCacheLoader<Object, Object> {
+
+    private final String cacheName;
+    private final Function<String, CompletableFuture<?>> reload;
+    private final ResponseCacheStore store;
+    private final Expiry<Object, Object> expiry;
+
+    public RefreshAheadLoader(String cacheName, Function<String, CompletableFuture<?>> reload) {
+        this(cacheName, reload, null, null);
+    }
+
+    public RefreshAheadLoader(String cacheName, Function<String, CompletableFuture<?>> reload,
+                              ResponseCacheStore store, Expiry<Object, Object> expiry) {
+        this.cacheName = cacheName;
+        this.reload = reload;
+        this.store = store;
+        this.expiry = expiry;
+    }
+
+    @Override
+    public CompletableFuture<?> asyncLoad(Object key, Executor executor) {
+        return reload.apply(key.toString());
+    }
+
+    @Override
+    public CompletableFuture<?> asyncReload(Object key, Object oldValue, Executor executor) {
+        Logger.debug("Refreshing {} entry for user: {}", cacheName, key);
+        return reload.apply(key.toString())
+                .whenComplete((value, error) -> {
+                    if (error != null) {
+                        Logger.warn("Refresh of {} for user {} failed, keeping the cached value: {}", cacheName, key, error.getMessage());
+                    } else {
+                        persist(key, value);
+                    }
+                });
+    }
+
+    private void persist(Object key, Object value) {
+        if (store == null || value == null) {
+            return;
+        }
+        long ttlNanos = expiry.expireAfterUpdate(key, value, System.nanoTime(), 0);
+        store.save(cacheName, key, value, System.currentTimeMillis() + TimeUnit.NANOSECONDS.toMillis(ttlNanos));
+    }
+}
@@ -0,0 +1,145 @@
+package com.rajat_singh.leetcode_api.config;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Weighs a cache entry by an estimate of the heap it retains, in bytes: the DTO graph is walked once on write,
+ * assuming a 64-bit JVM with compressed oops (12 byte headers, 4 byte references, 8 byte alignment).
+ * Close enough to budget caches in megabytes, so a user with a 600-contest history costs what it really does.
+ */
+public class RetainedSizeWeigher implements Weigher<Object, Object> {
+
+    private static final int HEADER = 12;
+    private static final int REFERENCE = 4;
+    private static final int ARRAY_HEADER = 16;
+    // other JDK types (dates, BigDecimal, ...) cannot be reflected into; they are small value objects in our DTOs
+    private static final int JDK_VALUE = 24;
+
+    private static final ClassValue<List<Field>> INSTANCE_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return List.copyOf(fields);
+        }
+    };
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long bytes = estimate(key) + estimate(value);
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, bytes));
+    }
+
+    static long estimate(Object root) {
+        Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> pending = new ArrayDeque<>();
+        push(root, seen, pending);
+        long bytes = 0;
+        while (!pending.isEmpty()) {
+            bytes += shallowSize(pending.pop(), seen, pending);
+        }
+        return bytes;
+    }
+
+    private static void push(Object value, Set<Object> seen, Deque<Object> pending) {
+        if (value != null && !(value instanceof Enum<?>) && !(value instanceof Class<?>) && seen.add(value)) {
+            pending.push(value);
+        }
+    }
+
+    /*
+     * Size of the object itself; everything it references is pushed to be counted separately.
+     */
+    private static long shallowSize(Object value, Set<Object> seen, Deque<Object> pending) {
+        if (value instanceof String s) {
+            // String object + its byte[] (Latin-1 strings take one byte per char)
+            boolean latin1 = s.chars().allMatch(c -> c < 256);
+            return align(HEADER + 12) + align(ARRAY_HEADER + (long) s.length() * (latin1 ? 1 : 2));
+        }
+        if (value instanceof Boolean || value instanceof Byte || value instanceof Character
+                || value instanceof Short || value instanceof Integer || value instanceof Float) {
+            return 16;
+        }
+        if (value instanceof Long || value instanceof Double) {
+            return 24;
+        }
+        if (value instanceof Collection<?> collection) {
+            // backing array / nodes, roughly one reference plus some slack per element
+            collection.forEach(element -> push(element, seen, pending));
+            return align(HEADER + 16) + align(ARRAY_HEADER + (long) collection.size() * REFERENCE * 2);
+        }
+        if (value instanceof Map<?, ?> map) {
+            map.forEach((k, v) -> {
+                push(k, seen, pending);
+                push(v, seen, pending);
+            });
+            return align(HEADER + 32) + align(ARRAY_HEADER + (long) map.size() * REFERENCE * 2) + map.size() * 32L;
+        }
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            int length = Array.getLength(value);
+            Class<?> component = type.getComponentType();
+            if (!component.isPrimitive()) {
+                for (Object element : (Object[]) value) {
+                    push(element, seen, pending);
+                }
+            }
+            return align(ARRAY_HEADER + (long) length * sizeOf(component));
+        }
+        if (type.getName().startsWith("java.")) {
+            return JDK_VALUE;
+        }
+        long size = HEADER;
+        for (Field field : INSTANCE_FIELDS.get(type)) {
+            size += sizeOf(field.getType());
+            if (!field.getType().isPrimitive()) {
+                try {
+                    push(field.get(value), seen, pending);
+                } catch (IllegalAccessException e) {
+                    // counted as a reference only
+                }
+            }
+        }
+        return align(size);
+    }
+
+    private static int sizeOf(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
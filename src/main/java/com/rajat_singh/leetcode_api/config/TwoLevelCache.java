@@ -0,0 +1,143 @@
+package com.rajat_singh.leetcode_api.config;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import com.rajat_singh.leetcode_api.service.ResponseCacheStore;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * A Caffeine cache (L1) backed by the SQLite response cache (L2). L1 misses are looked up in L2 and promoted
+ * with whatever lifetime they had left; every write to L1 is persisted with the lifetime L1 gave it.
+ * The native cache is the Caffeine one, so stats, metrics and direct peeks keep working.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final CaffeineCache local;
+    private final ResponseCacheStore store;
+
+    public TwoLevelCache(CaffeineCache local, ResponseCacheStore store) {
+        this.local = local;
+        this.store = store;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public com.github.benmanes.caffeine.cache.Cache<Object, Object> getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper cached = local.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        ResponseCacheStore.Entry stored = store.load(getName(), key);
+        if (stored == null) {
+            return null;
+        }
+        promote(key, stored);
+        return new SimpleValueWrapper(stored.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value = local.get(key, valueLoader);
+        persist(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+        persist(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        existing = local.putIfAbsent(key, value);
+        if (existing == null) {
+            persist(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        store.delete(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = local.evictIfPresent(key);
+        store.delete(getName(), key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        store.clear(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean hadEntries = local.invalidate();
+        store.clear(getName());
+        return hadEntries;
+    }
+
+    private void persist(Object key, Object value) {
+        // null (negative) results are only worth remembering in memory
+        if (value == null) {
+            return;
+        }
+        variableExpiry()
+                .flatMap(expiry -> expiry.getExpiresAfter(key))
+                .ifPresent(ttl -> store.save(getName(), key, value, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    private void promote(Object key, ResponseCacheStore.Entry stored) {
+        Duration remaining = Duration.ofMillis(stored.expiresAt() - System.currentTimeMillis());
+        if (remaining.isNegative() || remaining.isZero()) {
+            return;
+        }
+        variableExpiry().ifPresentOrElse(
+                expiry -> expiry.put(key, stored.value(), remaining),
+                () -> local.put(key, stored.value()));
+    }
+
+    private Optional<Policy.VarExpiration<Object, Object>> variableExpiry() {
+        return getNativeCache().policy().expireVariably();
+    }
+}
@@ -0,0 +1,39 @@
+package com.rajat_singh.leetcode_api.config;
+
+import com.rajat_singh.leetcode_api.service.ResponseCacheStore;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Wraps every cache of the Caffeine manager in a TwoLevelCache sharing one SQLite store.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager localCacheManager;
+    private final ResponseCacheStore store;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager localCacheManager, ResponseCacheStore store) {
+        this.localCacheManager = localCacheManager;
+        this.store = store;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache local = localCacheManager.getCache(name);
+        if (!(local instanceof CaffeineCache caffeineCache)) {
+            return local;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new TwoLevelCache(caffeineCache, store));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+}
@@ -0,0 +1,34 @@
+package com.rajat_singh.leetcode_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * TTL and size of each per-user LeetCodeService cache, keyed by cache name under leetcode.cache.user.
+ * Caches without an entry fall back to the defaults below. A maximum-weight (estimated heap bytes) takes
+ * precedence over maximum-size.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "leetcode.cache")
+public class UserCacheProperties {
+
+    private Map<String, Spec> user = new HashMap<>();
+
+    public Spec specFor(String cacheName) {
+        return user.getOrDefault(cacheName, new Spec());
+    }
+
+    @Data
+    public static class Spec {
+        private Duration ttl = Duration.ofHours(1);
+        private long maximumSize = 10_000;
+        private DataSize maximumWeight;
+    }
+}
@@ -0,0 +1,31 @@
+package com.rajat_singh.leetcode_api.config;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+
+/**
+ * Cache keys for per-user lookups. LeetCode usernames are case-insensitive, so "Alice" and "alice" share
+ * an entry. The first argument is the username; any further arguments (limit, year) are appended.
+ */
+@Component("usernameKeyGenerator")
+public class UsernameKeyGenerator implements KeyGenerator {
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        return keyFor(params);
+    }
+
+    /*
+     * Also used by code that reads or writes these caches directly, so both paths agree on the key.
+     */
+    public static String keyFor(Object... parts) {
+        StringBuilder key = new StringBuilder(parts[0].toString().trim().toLowerCase(Locale.ROOT));
+        for (int i = 1; i < parts.length; i++) {
+            key.append(':').append(parts[i]);
+        }
+        return key.toString();
+    }
+}
@@ -39,6 +39,7 @@ public class ApiOverviewController {
         userPaths.put("/users/{username}/publicInfo", "Get public profile info (avatar, ranking, social links).");
         userPaths.put("/users/{username}/badges", "Get a list of badges earned by the user.");
         userPaths.put("/users/{username}/userSkillStats", "Get advanced, intermediate, and fundamental skill stats.");
+        userPaths.put("/users/{username}/full", "Get progress, language stats, public info, badges and skill stats in one call.");
         userPaths.put("/users/{username}/recentUserSubmissions/{limit}", "Get the {limit} most recent AC submissions.");
         userPaths.put("/users/{username}/userCalendarStats/{year}", "Get submission calendar, streak, and active days for a given {year}.");
         
@@ -60,6 +61,7 @@ public class ApiOverviewController {
         contestPaths.put("/users/{username}/contests/problemSolvedGTE/{count}", "Filter history for contests where problems solved were >= {count}.");
         contestPaths.put("/users/{username}/contests/finishTime/{timeInSeconds}", "Filter history for contests finished in less than {timeInSeconds}.");
         contestPaths.put("/users/{username}/contests/biggestJumpInRating", "Get the contest with the user's biggest rating increase.");
+        contestPaths.put("/users/contests/ranking?usernames=", "Get the contest ranking of up to 100 users in one call.");
         
         userContests.put("endpoints", contestPaths);
         routes.put("userContests", userContests);
@@ -1,11 +1,15 @@
 package com.rajat_singh.leetcode_api.controller;
 
-import com.rajat_singh.leetcode_api.dto.ContestDTO;
-import com.rajat_singh.leetcode_api.dto.ContestsDTO;
+import com.rajat_singh.leetcode_api.enums.Catalog;
+import com.rajat_singh.leetcode_api.service.CatalogVersion;
 import com.rajat_singh.leetcode_api.service.LeetCodeContestService;
+import com.rajat_singh.leetcode_api.service.RenderedResponseCache;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,6 +17,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.tinylog.Logger;
 
+import java.time.Instant;
+
 
 @RestController
 @RequestMapping("/api/v1/globalContestInfo")
@@ -20,11 +26,23 @@ import org.tinylog.Logger;
 public class GlobalContestInfoController {
 
     private final LeetCodeContestService leetCodeContestService;
+    private final CatalogVersion catalogVersion;
+    private final RenderedResponseCache renderedResponseCache;
 
     @GetMapping("/fetchContests")
-    public ResponseEntity<Page<ContestDTO>> getContestsInfo(@ParameterObject Pageable pageable) {
-        Logger.info("Fetching contests info");
-        return ResponseEntity.ok(leetCodeContestService.getContestsInfo(pageable));
+    @ApiResponse(responseCode = "200", description = "OK",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PageSchemas.ContestPage.class)))
+    public ResponseEntity<byte[]> getContestsInfo(@ParameterObject Pageable pageable, HttpServletRequest httpRequest) {
+        String etag = catalogVersion.etag(Catalog.CONTESTS, pageable);
+        Instant lastModified = catalogVersion.lastModified(Catalog.CONTESTS);
+        if (ConditionalRequests.notModified(httpRequest, etag, lastModified)) {
+            return ConditionalRequests.notModifiedResponse(etag, lastModified);
+        }
+        RenderedResponseCache.Rendered rendered = renderedResponseCache.get(etag, () -> {
+            Logger.info("Fetching contests info");
+            return leetCodeContestService.getContestsInfo(pageable);
+        });
+        return ConditionalRequests.ok(rendered, httpRequest, etag, lastModified);
     }
 
 }
@@ -3,10 +3,18 @@ package com.rajat_singh.leetcode_api.controller;
 
 import com.rajat_singh.leetcode_api.dto.QuestionResponseDTO;
 import com.rajat_singh.leetcode_api.dto.QuestionSearchRequest;
+import com.rajat_singh.leetcode_api.dto.QuestionSuggestionDTO;
 import com.rajat_singh.leetcode_api.entity.QuestionEntity;
+import com.rajat_singh.leetcode_api.enums.Catalog;
 import com.rajat_singh.leetcode_api.mappers.QuestionMapper;
 import com.rajat_singh.leetcode_api.repository.QuestionsRepository;
+import com.rajat_singh.leetcode_api.service.CatalogVersion;
 import com.rajat_singh.leetcode_api.service.LeetCodeQuestionsService;
+import com.rajat_singh.leetcode_api.service.RenderedResponseCache;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
@@ -16,7 +24,9 @@ import org.springframework.web.bind.annotation.*;
 
 import org.tinylog.Logger;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -31,20 +41,30 @@ public class LeetCodeQuestionsController {
      */
     private final QuestionsRepository questionsRepository;
     private final QuestionMapper questionMapper;
+    private final CatalogVersion catalogVersion;
+    private final RenderedResponseCache renderedResponseCache;
 
     /**
      * Standard paginated endpoint to get questions from YOUR database.
      * e.g., /api/v1/questions?page=0&size=20
      */
     @GetMapping()
-    public ResponseEntity<Page<QuestionResponseDTO>> getAllQuestions(@ParameterObject Pageable pageable){
-        Logger.info("Fetching questions from database with pagination: {}", pageable);
-
-        Page<QuestionEntity> entityPage = questionsRepository.findAll(pageable);
+    @ApiResponse(responseCode = "200", description = "OK",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PageSchemas.QuestionPage.class)))
+    public ResponseEntity<byte[]> getAllQuestions(@ParameterObject Pageable pageable, HttpServletRequest httpRequest){
+        String etag = catalogVersion.etag(Catalog.QUESTIONS, pageable);
+        Instant lastModified = catalogVersion.lastModified(Catalog.QUESTIONS);
+        if (ConditionalRequests.notModified(httpRequest, etag, lastModified)) {
+            return ConditionalRequests.notModifiedResponse(etag, lastModified);
+        }
+        RenderedResponseCache.Rendered rendered = renderedResponseCache.get(etag, () -> {
+            Logger.info("Fetching questions from database with pagination: {}", pageable);
 
-        Page<QuestionResponseDTO> dtoPage = entityPage.map(questionMapper::entityToResponseDTO);
+            Page<QuestionEntity> entityPage = questionsRepository.findAll(pageable);
 
-        return ResponseEntity.ok(dtoPage);
+            return entityPage.map(questionMapper::entityToResponseDTO);
+        });
+        return ConditionalRequests.ok(rendered, httpRequest, etag, lastModified);
     }
 
 
@@ -52,25 +72,56 @@ public class LeetCodeQuestionsController {
      * A powerful, filterable search endpoint.
      */
     @PostMapping("/search")
-    public ResponseEntity<Page<QuestionResponseDTO>>searchQuestions(@RequestBody QuestionSearchRequest request) {
+    public ResponseEntity<Page<QuestionResponseDTO>>searchQuestions(@RequestBody QuestionSearchRequest request, HttpServletRequest httpRequest) {
+        String etag = catalogVersion.etag(Catalog.QUESTIONS, request);
+        Instant lastModified = catalogVersion.lastModified(Catalog.QUESTIONS);
+        if (ConditionalRequests.notModified(httpRequest, etag, lastModified)) {
+            return ConditionalRequests.notModifiedResponse(etag, lastModified);
+        }
         Logger.info("searchQuestions() method called with request :: {}",request);
         Page<QuestionResponseDTO> dtoPage = leetCodeQuestionsService.findQuestions(request);
-        return ResponseEntity.ok(dtoPage);
+        return ConditionalRequests.ok(dtoPage, etag, lastModified);
+    }
+
+    /**
+     * Search-box suggestions, one request per keystroke: matched on title, title word or frontend id prefix
+     * from memory, never touching the database.
+     * e.g., /api/v1/questions/autocomplete?prefix=two%20s&limit=5
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<QuestionSuggestionDTO>> autocomplete(@RequestParam(defaultValue = "") String prefix,
+                                                                    @RequestParam(defaultValue = "10") int limit,
+                                                                    HttpServletRequest httpRequest) {
+        String etag = catalogVersion.etag(Catalog.QUESTIONS, "autocomplete:" + prefix + ":" + limit);
+        Instant lastModified = catalogVersion.lastModified(Catalog.QUESTIONS);
+        if (ConditionalRequests.notModified(httpRequest, etag, lastModified)) {
+            return ConditionalRequests.notModifiedResponse(etag, lastModified);
+        }
+        return ConditionalRequests.ok(leetCodeQuestionsService.autocomplete(prefix, limit), etag, lastModified);
     }
 
     /**
     * Retrieves the current Problem of the Day (POTD) from the database
     */
     @GetMapping("/potd")
-    public ResponseEntity<QuestionResponseDTO> getPotd() {
-        Logger.info("Fetching POTD from database");
-        QuestionEntity potd = questionsRepository.findByIsProblemOfTheDayTrue();
-        if (potd == null) {
+    @ApiResponse(responseCode = "200", description = "OK",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = QuestionResponseDTO.class)))
+    public ResponseEntity<byte[]> getPotd(HttpServletRequest httpRequest) {
+        String etag = catalogVersion.etag(Catalog.QUESTIONS, "potd");
+        Instant lastModified = catalogVersion.lastModified(Catalog.QUESTIONS);
+        if (ConditionalRequests.notModified(httpRequest, etag, lastModified)) {
+            return ConditionalRequests.notModifiedResponse(etag, lastModified);
+        }
+        RenderedResponseCache.Rendered rendered = renderedResponseCache.get(etag, () -> {
+            Logger.info("Fetching POTD from database");
+            QuestionEntity potd = questionsRepository.findByIsProblemOfTheDayTrue();
+            return potd == null ? null : questionMapper.entityToResponseDTO(potd);
+        });
+        if (rendered == null) {
             Logger.warn("No problem of the day found");
             return ResponseEntity.notFound().build();
         }
-        QuestionResponseDTO dto = questionMapper.entityToResponseDTO(potd);
-        return ResponseEntity.ok(dto);
+        return ConditionalRequests.ok(rendered, httpRequest, etag, lastModified);
     }
 
 }
@@ -0,0 +1,25 @@
+package com.rajat_singh.leetcode_api.controller;
+
+import com.rajat_singh.leetcode_api.dto.ContestDTO;
+import com.rajat_singh.leetcode_api.dto.QuestionResponseDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Page;
+
+/*
+ * OpenAPI stand-ins for the Page bodies of the pre-rendered endpoints. Those return the JSON as bytes, and
+ * @Schema(implementation = ...) cannot name a parameterized Page, so these give springdoc the same
+ * Page<T> schemas the endpoints had when they returned the Page itself.
+ */
+final class PageSchemas {
+
+    private PageSchemas() {
+    }
+
+    @Schema(name = "PageQuestionResponseDTO")
+    abstract static class QuestionPage implements Page<QuestionResponseDTO> {
+    }
+
+    @Schema(name = "PageContestDTO")
+    abstract static class ContestPage implements Page<ContestDTO> {
+    }
+}
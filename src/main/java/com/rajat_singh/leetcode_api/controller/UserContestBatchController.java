@@ -0,0 +1,35 @@
+package com.rajat_singh.leetcode_api.controller;
+
+import com.rajat_singh.leetcode_api.dto.UserContestRanking;
+import com.rajat_singh.leetcode_api.service.LeetCodeContestService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.tinylog.Logger;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contest endpoints that span several users, e.g. leaderboard pages.
+ */
+@RestController
+@RequestMapping("/api/v1/users/contests")
+@RequiredArgsConstructor
+public class UserContestBatchController {
+
+    private final LeetCodeContestService leetCodeContestService;
+
+    /**
+     * e.g., /api/v1/users/contests/ranking?usernames=alice,bob,carol
+     * Users without a contest ranking map to null.
+     */
+    @GetMapping("/ranking")
+    public ResponseEntity<Map<String, UserContestRanking>> getUserContestRankings(@RequestParam List<String> usernames) {
+        Logger.info("getUserContestRankings() method called with {} usernames", usernames.size());
+        return ResponseEntity.ok(leetCodeContestService.getUserContestRankings(usernames));
+    }
+}
@@ -7,6 +7,8 @@ import com.rajat_singh.leetcode_api.dto.UserContestResponse;
 import com.rajat_singh.leetcode_api.enums.ContestFilterType;
 import com.rajat_singh.leetcode_api.service.LeetCodeContestService;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.tinylog.Logger;
@@ -16,6 +18,10 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/v1/users/{username}/contests")
@@ -25,74 +31,70 @@ public class UserContestInfoController {
     @Value("${app.api.secret:}")
     private String apiSecret;
 
+    @Autowired
+    @Qualifier("leetCodeClientExecutor")
+    private Executor leetCodeClientExecutor;
+
     private final LeetCodeContestService leetCodeContestService;
 
     @GetMapping()
-    public ResponseEntity<UserContestResponse.DataNode> getUserContestRankingWithRankingHistory(@PathVariable String username){
-        return leetCodeContestService.getUserContestRankingWithHistory(username)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public CompletableFuture<ResponseEntity<UserContestResponse.DataNode>> getUserContestRankingWithRankingHistory(@PathVariable String username){
+        return leetCodeContestService.getUserContestRankingWithHistoryAsync(username)
+                .thenApply(result -> result.map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build()));
     }
 
 
     @GetMapping("/ranking")
-    public ResponseEntity<UserContestRanking> getUserContestRanking(@PathVariable String username){
-        return leetCodeContestService.getUserContestRanking(username).map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public CompletableFuture<ResponseEntity<UserContestRanking>> getUserContestRanking(@PathVariable String username){
+        return leetCodeContestService.getUserContestRankingAsync(username)
+                .thenApply(result -> result.map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build()));
     }
 
     @GetMapping("/bestRanking")
-    public ResponseEntity<UserContestRankingHistory> getUserContestBestRanking(@PathVariable String username) {
-        return leetCodeContestService.getBestContestRanking(username).map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public CompletableFuture<ResponseEntity<UserContestRankingHistory>> getUserContestBestRanking(@PathVariable String username) {
+        return okOrNotFound(() -> leetCodeContestService.getBestContestRanking(username));
     }
 
     @GetMapping("/rankingHistory")
-    public ResponseEntity<List<UserContestRankingHistory>>getUserContestRankingHistory(@PathVariable String username) {
-        return leetCodeContestService.getUserContestRankingHistory(username).map(ResponseEntity::ok)
-                    .orElse(ResponseEntity.notFound().build());
+    public CompletableFuture<ResponseEntity<List<UserContestRankingHistory>>> getUserContestRankingHistory(@PathVariable String username) {
+        return okOrNotFound(() -> leetCodeContestService.getUserContestRankingHistory(username));
     }
 
     @GetMapping("/contest-name/{contestTitle}")
-    public ResponseEntity<List<UserContestRankingHistory> >getUserContestRankingHistoryByContestTitle(@PathVariable String username, @PathVariable String contestTitle) {
-        return  leetCodeContestService.getUsersContestInfo(username,contestTitle, ContestFilterType.MATCH_BY_TITLE).map(ResponseEntity::ok)
-                    .orElse(ResponseEntity.notFound().build());
+    public CompletableFuture<ResponseEntity<List<UserContestRankingHistory>>> getUserContestRankingHistoryByContestTitle(@PathVariable String username, @PathVariable String contestTitle) {
+        return okOrNotFound(() -> leetCodeContestService.getUsersContestInfo(username,contestTitle, ContestFilterType.MATCH_BY_TITLE));
     }
 
     @GetMapping("/hasAttended/{attended}")
-    public ResponseEntity<List<UserContestRankingHistory> > getUserContestRankingHistoryByAttendance(@PathVariable String username ,@PathVariable String attended) {
-        return leetCodeContestService.getUsersContestInfo(username,attended, ContestFilterType.IS_ATTENDED).map(ResponseEntity::ok)
-                    .orElse(ResponseEntity.notFound().build());
+    public CompletableFuture<ResponseEntity<List<UserContestRankingHistory>>> getUserContestRankingHistoryByAttendance(@PathVariable String username ,@PathVariable String attended) {
+        return okOrNotFound(() -> leetCodeContestService.getUsersContestInfo(username,attended, ContestFilterType.IS_ATTENDED));
     }
 
     @GetMapping("/trendDirection/{direction}")
-    public ResponseEntity<List<UserContestRankingHistory>> getUserContestRankingHistoryByTrendDirection(@PathVariable String username,@PathVariable String direction){
-        return leetCodeContestService.getUsersContestInfo(username,direction,ContestFilterType.TREND_DIRECTION).map(ResponseEntity::ok)
-                    .orElse(ResponseEntity.notFound().build());
+    public CompletableFuture<ResponseEntity<List<UserContestRankingHistory>>> getUserContestRankingHistoryByTrendDirection(@PathVariable String username,@PathVariable String direction){
+        return okOrNotFound(() -> leetCodeContestService.getUsersContestInfo(username,direction,ContestFilterType.TREND_DIRECTION));
     }
 
     @GetMapping("/problemSolvedGTE/{questionCount}")
-    public ResponseEntity<List<UserContestRankingHistory>> getUserContestRankingHistoryByProblemsSolvedGTE(@PathVariable String username,@PathVariable String questionCount){
-        return leetCodeContestService.getUsersContestInfo(username,questionCount,ContestFilterType.PROBLEMS_SOLVED_GTE).map(ResponseEntity::ok)
-                    .orElse(ResponseEntity.notFound().build());
+    public CompletableFuture<ResponseEntity<List<UserContestRankingHistory>>> getUserContestRankingHistoryByProblemsSolvedGTE(@PathVariable String username,@PathVariable String questionCount){
+        return okOrNotFound(() -> leetCodeContestService.getUsersContestInfo(username,questionCount,ContestFilterType.PROBLEMS_SOLVED_GTE));
     }
 
     @GetMapping("/problemSolvedLTE/{questionCount}")
-    public ResponseEntity<List<UserContestRankingHistory>> getUserContestRankingHistoryByProblemsSolvedLTE(@PathVariable String username,@PathVariable String questionCount){
-        return leetCodeContestService.getUsersContestInfo(username,questionCount,ContestFilterType.PROBLEMS_SOLVED_LTE).map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public CompletableFuture<ResponseEntity<List<UserContestRankingHistory>>> getUserContestRankingHistoryByProblemsSolvedLTE(@PathVariable String username,@PathVariable String questionCount){
+        return okOrNotFound(() -> leetCodeContestService.getUsersContestInfo(username,questionCount,ContestFilterType.PROBLEMS_SOLVED_LTE));
     }
 
     @GetMapping("/finishTime/{timeInSeconds}")
-    public ResponseEntity<List<UserContestRankingHistory>> getUserContestRankingHistoryByFinishTime(@PathVariable String username,@PathVariable String timeInSeconds) {
-        return leetCodeContestService.getUsersContestInfo(username, timeInSeconds, ContestFilterType.FINISH_TIME).map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public CompletableFuture<ResponseEntity<List<UserContestRankingHistory>>> getUserContestRankingHistoryByFinishTime(@PathVariable String username,@PathVariable String timeInSeconds) {
+        return okOrNotFound(() -> leetCodeContestService.getUsersContestInfo(username, timeInSeconds, ContestFilterType.FINISH_TIME));
     }
 
     @GetMapping("/biggestJumpInRating")
-    public ResponseEntity<UserContestBiggestRatingJump> getUserContestWithBiggestJumpInRating(@PathVariable String username) {
-        return leetCodeContestService.getBiggestRatingJump(username).map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public CompletableFuture<ResponseEntity<UserContestBiggestRatingJump>> getUserContestWithBiggestJumpInRating(@PathVariable String username) {
+        return okOrNotFound(() -> leetCodeContestService.getBiggestRatingJump(username));
     }
 
     @DeleteMapping("/evictUserData")
@@ -114,4 +116,14 @@ public class UserContestInfoController {
             return ResponseEntity.status(500).body("Error evicting contest data for user: " + username);
         }
     }
+
+    /*
+     * The history endpoints read SQLite but fall back to leetcode.com for users we have not seen yet,
+     * so they are also taken off the request thread.
+     */
+    private <T> CompletableFuture<ResponseEntity<T>> okOrNotFound(Supplier<Optional<T>> lookup) {
+        return CompletableFuture.supplyAsync(lookup, leetCodeClientExecutor)
+                .thenApply(result -> result.map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build()));
+    }
 }
@@ -9,6 +9,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.tinylog.Logger;
+
+import java.util.concurrent.CompletableFuture;
+
+/*
+ * Handlers return CompletableFuture so the request thread goes back to Tomcat while the upstream call is in flight.
+ */
 @RestController
 @RequestMapping("/api/v1/users/{username}")
 @RequiredArgsConstructor
@@ -17,50 +23,57 @@ public class UserController {
     private final LeetCodeService leetCodeService;
 
     @GetMapping("/profile")
-    public ResponseEntity<UserProgressResponse.UserProfileUserQuestionProgressV2> getUserProfile(@PathVariable String username) {
+    public CompletableFuture<ResponseEntity<UserProgressResponse.UserProfileUserQuestionProgressV2>> getUserProfile(@PathVariable String username) {
         Logger.info("getUserProfile() method called with username :: {}",username);
-        return leetCodeService.getUserProfile(username)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        return leetCodeService.getUserProfileAsync(username)
+                .thenApply(result -> result.map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build()));
     }
 
     @GetMapping("/languageStats")
-    public ResponseEntity<UserLanguageStats.MatchedUser> getUserLanguageStats(@PathVariable String username) {
+    public CompletableFuture<ResponseEntity<UserLanguageStats.MatchedUser>> getUserLanguageStats(@PathVariable String username) {
         Logger.info("getUserLanguageStats() method called with username :: {}",username);
-        return leetCodeService.getUserLanguageStats(username).map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+        return leetCodeService.getUserLanguageStatsAsync(username).thenApply(result -> result.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build()));
     }
 
     @GetMapping("/publicInfo")
-    public ResponseEntity<UserPublicInfo.MatchedUser> getUserPublicInfo(@PathVariable String username) {
+    public CompletableFuture<ResponseEntity<UserPublicInfo.MatchedUser>> getUserPublicInfo(@PathVariable String username) {
         Logger.info("getUserPublicInfo() method called with username :: {}",username);
-        return leetCodeService.getUserPublicInfo(username).map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+        return leetCodeService.getUserPublicInfoAsync(username).thenApply(result -> result.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build()));
     }
 
     @GetMapping("/badges")
-    public ResponseEntity<UsersBadgeListResponse.MatchedUser> getUserBadges(@PathVariable String username) {
+    public CompletableFuture<ResponseEntity<UsersBadgeListResponse.MatchedUser>> getUserBadges(@PathVariable String username) {
         Logger.info("getUserBadges() method called with username :: {}", username);
-        return leetCodeService.getUserBadgesList(username)
-                .map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+        return leetCodeService.getUserBadgesListAsync(username)
+                .thenApply(result -> result.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build()));
     }
 
     @GetMapping("/userSkillStats")
-    public ResponseEntity<UserSkillStatsResponse.MatchedUser> getUserSkillStats(@PathVariable String username) {
+    public CompletableFuture<ResponseEntity<UserSkillStatsResponse.MatchedUser>> getUserSkillStats(@PathVariable String username) {
         Logger.info("getUserSkillStats() method called with username :: {}", username);
-        return leetCodeService.getUserSkillStats(username)
-                .map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
-    };
+        return leetCodeService.getUserSkillStatsAsync(username)
+                .thenApply(result -> result.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build()));
+    }
+
+    @GetMapping("/full")
+    public CompletableFuture<ResponseEntity<UserFullProfileResponse.DataNode>> getUserFullProfile(@PathVariable String username) {
+        Logger.info("getUserFullProfile() method called with username :: {}", username);
+        return leetCodeService.getUserFullProfileAsync(username)
+                .thenApply(result -> result.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build()));
+    }
 
     @GetMapping("/recentUserSubmissions/{limit}")
-    public ResponseEntity<UserRecentSubmissionsResponse.DataNode> getUserRecentSubmissions(@PathVariable String username,@PathVariable int limit) {
+    public CompletableFuture<ResponseEntity<UserRecentSubmissionsResponse.DataNode>> getUserRecentSubmissions(@PathVariable String username,@PathVariable int limit) {
         Logger.info("getUserRecentSubmissions() method called with username :: {}", username);
-        return leetCodeService.getUserRecentSubmissions(username,limit)
-                .map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+        return leetCodeService.getUserRecentSubmissionsAsync(username,limit)
+                .thenApply(result -> result.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build()));
     }
 
     @GetMapping("/userCalendarStats/{year}")
-    public ResponseEntity<UserCalendarDTO> getUserCalendarStats(@PathVariable String username,@PathVariable int year) {
+    public CompletableFuture<ResponseEntity<UserCalendarDTO>> getUserCalendarStats(@PathVariable String username,@PathVariable int year) {
         Logger.info("getUserCalendarStats() method called with username :: {}", username);
-        return leetCodeService.getUserLeetCodeCalendar(username,year)
-                .map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+        return leetCodeService.getUserLeetCodeCalendarAsync(username,year)
+                .thenApply(result -> result.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build()));
     }
 }
\ No newline at end of file
@@ -18,6 +18,8 @@ public class QuestionSearchRequest {
     private int limit;
     private String categorySlug;
     private String searchKeyword;
+    // tolerate typos in searchKeyword, ranking the closest titles first
+    private boolean fuzzy;
     private SortingCriteria sortBy;
     private FilterCriteria filters;
 
@@ -0,0 +1,15 @@
+package com.rajat_singh.leetcode_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class QuestionSuggestionDTO {
+    // One autocomplete entry: just enough to show the question and link to it
+    private int id;
+    private String title;
+    private String titleSlug;
+    private String difficulty;
+    private Double acRate;
+}
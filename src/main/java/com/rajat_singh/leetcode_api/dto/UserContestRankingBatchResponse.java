@@ -0,0 +1,16 @@
+package com.rajat_singh.leetcode_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * Response of the batched contest ranking document, keyed by alias (u0, u1, ...).
+ * An alias maps to null when the user does not exist or has no contest ranking.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserContestRankingBatchResponse {
+    private Map<String, UserContestRanking> data;
+}
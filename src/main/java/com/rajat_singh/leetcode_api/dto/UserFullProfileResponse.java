@@ -0,0 +1,27 @@
+package com.rajat_singh.leetcode_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Data;
+
+/**
+ * Response of the aliased "full profile" document. Each alias maps onto the
+ * same section DTO the single-purpose endpoints already return.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserFullProfileResponse {
+
+    private DataNode data;
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonPropertyOrder({ "progress", "languageStats", "publicInfo", "badges", "skillStats" })
+    public static class DataNode {
+        private UserProgressResponse.UserProfileUserQuestionProgressV2 progress;
+        private UserLanguageStats.MatchedUser languageStats;
+        private UserPublicInfo.MatchedUser publicInfo;
+        private UsersBadgeListResponse.MatchedUser badges;
+        private UserSkillStatsResponse.MatchedUser skillStats;
+    }
+}
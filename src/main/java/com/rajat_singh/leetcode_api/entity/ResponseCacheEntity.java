@@ -0,0 +1,23 @@
+package com.rajat_singh.leetcode_api.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/*
+ * One entry of the persistent (L2) response cache: a gzipped JSON value with its expiry.
+ */
+@Data
+@Entity
+@Table(name = "response_cache", indexes = @Index(name = "idx_response_cache_expires_at", columnList = "expiresAt"))
+public class ResponseCacheEntity {
+
+    @Id
+    private String id;          // cacheName + "/" + key
+
+    private String cacheName;
+
+    @Lob
+    private byte[] payload;
+
+    private long expiresAt;     // epoch millis
+}
@@ -0,0 +1,9 @@
+package com.rajat_singh.leetcode_api.enums;
+
+/*
+ * Data sets that only change when LeetCodeSyncScheduler writes them.
+ */
+public enum Catalog {
+    QUESTIONS,      // questions table, incl. acRate and the problem of the day
+    CONTESTS        // contest_data table
+}
@@ -0,0 +1,10 @@
+package com.rajat_singh.leetcode_api.enums;
+
+/*
+ * Priority of an outbound leetcode.com call, highest first.
+ */
+public enum OutboundLane {
+    INTERACTIVE,    // a user request is waiting on the answer
+    PREFETCH,       // refreshing something a user is likely to ask for soon
+    BULK            // scheduled catalog / contest sync
+}
@@ -1,5 +1,5 @@
 package com.rajat_singh.leetcode_api.enums.questions;
 
 public enum SortField {
-    CUSTOM, DIFFICULTY, FRONTEND_ID, AC_RATE
+    CUSTOM, DIFFICULTY, FRONTEND_ID, AC_RATE, RELEVANCE
 }
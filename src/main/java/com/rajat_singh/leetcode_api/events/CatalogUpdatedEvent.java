@@ -0,0 +1,9 @@
+package com.rajat_singh.leetcode_api.events;
+
+import com.rajat_singh.leetcode_api.enums.Catalog;
+
+/*
+ * Published by LeetCodeSyncScheduler once a sync has finished writing a catalog.
+ */
+public record CatalogUpdatedEvent(Catalog catalog) {
+}
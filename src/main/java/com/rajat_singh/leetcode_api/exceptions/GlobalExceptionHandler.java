@@ -2,6 +2,8 @@ package com.rajat_singh.leetcode_api.exceptions;
 
 import com.rajat_singh.leetcode_api.dto.ApiErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -15,6 +17,10 @@ import java.time.LocalDateTime;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+
+    // how soon a client turned away by a full leetCodeClientExecutor queue should try again
+    private static final String OVERLOADED_RETRY_AFTER_SECONDS = "1";
+
     /**
      * Handles 404 errors for paths that do not exist.
      * This is triggered when spring.mvc.throw-exception-if-no-handler-found=true
@@ -135,6 +141,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * The async endpoints hand their work to leetCodeClientExecutor, whose bounded queue rejects once full.
+     * That is overload, not a server bug, so the client is told to come back shortly.
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ApiErrorResponse> handleTaskRejected(
+            TaskRejectedException ex, HttpServletRequest request) {
+
+        ApiErrorResponse response = new ApiErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "The server is handling too many requests right now. Please retry shortly.",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, OVERLOADED_RETRY_AFTER_SECONDS)
+                .body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiErrorResponse> handleGenericException(
             Exception ex, HttpServletRequest request) {
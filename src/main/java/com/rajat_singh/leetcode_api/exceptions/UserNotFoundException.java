@@ -1,8 +1,11 @@
 package com.rajat_singh.leetcode_api.exceptions;
 
 
+/*
+ * Thrown for every request naming a nonexistent user, and always mapped to a 404, so no stack trace is captured.
+ */
 public class UserNotFoundException extends RuntimeException {
     public UserNotFoundException(String username) {
-        super("User '" + username + "' not found on LeetCode");
+        super("User '" + username + "' not found on LeetCode", null, false, false);
     }
 }
@@ -251,6 +251,18 @@ public class GraphQlQueries {
             }
             """;
 
+    /*
+     * One document for the dashboard "full profile": the root fields of the five profile queries above,
+     * each under its own alias, so a single POST (and a single rate-limiter permit) returns every section.
+     */
+    public static final String USER_FULL_PROFILE_QUERY = "query userFullProfile($username: String!) {\n"
+            + aliasedRootField("progress", userProgressQuery.replace("$userSlug", "$username"))
+            + aliasedRootField("languageStats", UserLanguageStatsQuery)
+            + aliasedRootField("publicInfo", UserPublicInfoQuery)
+            + aliasedRootField("badges", FETCH_USER_BADGES_QUERY)
+            + aliasedRootField("skillStats", FETCH_USER_SKILL_STATS)
+            + "}\n";
+
     public static final String FETCH_USER_RECENT_SUBMISSIONS = """
            query recentAcSubmissions($username: String!, $limit: Int!) {
               recentAcSubmissionList(username: $username, limit: $limit) {
@@ -321,4 +333,26 @@ public class GraphQlQueries {
             }
             """;
 
+    /*
+     * Builds a document that looks up the contest ranking of several users at once: one aliased
+     * userContestRanking field (u0, u1, ...) per username, each bound to its own variable.
+     */
+    public static String userContestRankingBatchQuery(int size) {
+        StringBuilder variables = new StringBuilder();
+        StringBuilder fields = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            variables.append(i == 0 ? "" : ", ").append("$u").append(i).append(": String!");
+            fields.append(aliasedRootField("u" + i, USER_CONTEST_RANKING.replace("$username", "$u" + i)));
+        }
+        return "query userContestRankingBatch(" + variables + ") {\n" + fields + "}\n";
+    }
+
+    /*
+     * Strips the "query name($vars) { ... }" wrapper from a single-root-field query and returns
+     * the root field under the given alias, ready to be embedded in a combined document.
+     */
+    private static String aliasedRootField(String alias, String query) {
+        String selection = query.substring(query.indexOf('{') + 1, query.lastIndexOf('}')).strip();
+        return "  " + alias + ": " + selection + "\n";
+    }
 }
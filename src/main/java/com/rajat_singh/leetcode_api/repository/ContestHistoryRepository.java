@@ -4,10 +4,12 @@ import com.rajat_singh.leetcode_api.dto.UserContestRankingHistory;
 import com.rajat_singh.leetcode_api.entity.UserContestHistoryEntity;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -69,4 +71,9 @@ public interface ContestHistoryRepository extends JpaRepository<UserContestHisto
 
     @Transactional
     void deleteByUsername(String username);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UserContestHistoryEntity e WHERE e.username IN :usernames")
+    int deleteByUsernameIn(@Param("usernames") Collection<String> usernames);
 }
@@ -12,4 +12,6 @@ import java.awt.print.Pageable;
 public interface GlobalLeetCodeContestsRepository extends JpaRepository<ContestDataEntity,Integer>, JpaSpecificationExecutor<ContestDataEntity> {
 
     ContestDataEntity findByTitleSlug(String titleSlug);
+
+    ContestDataEntity findTopByTitleStartingWithOrderByStartTimeDesc(String titlePrefix);
 }
@@ -6,11 +6,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 
 @Repository
 public interface QuestionsRepository extends JpaRepository<QuestionEntity,Integer>, JpaSpecificationExecutor<QuestionEntity> {
 
     QuestionEntity findByTitleSlug(String title);
+    List<QuestionEntity> findByTitleSlugIn(Collection<String> titleSlugs);
     QuestionEntity findByIsProblemOfTheDayTrue();
 
     @Transactional
@@ -0,0 +1,23 @@
+package com.rajat_singh.leetcode_api.repository;
+
+import com.rajat_singh.leetcode_api.entity.ResponseCacheEntity;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ResponseCacheRepository extends JpaRepository<ResponseCacheEntity, String> {
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ResponseCacheEntity e WHERE e.expiresAt < :now")
+    int deleteExpired(@Param("now") long now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ResponseCacheEntity e WHERE e.cacheName = :cacheName")
+    int deleteByCacheName(@Param("cacheName") String cacheName);
+}
@@ -8,6 +8,8 @@ import com.rajat_singh.leetcode_api.entity.ContestDataEntity;
 import com.rajat_singh.leetcode_api.entity.QuestionEntity;
 import com.rajat_singh.leetcode_api.entity.SponsorEntity;
 import com.rajat_singh.leetcode_api.entity.TopicTag;
+import com.rajat_singh.leetcode_api.enums.Catalog;
+import com.rajat_singh.leetcode_api.events.CatalogUpdatedEvent;
 import com.rajat_singh.leetcode_api.mappers.ContestMapper;
 import com.rajat_singh.leetcode_api.mappers.QuestionMapper;
 import com.rajat_singh.leetcode_api.repository.GlobalLeetCodeContestsRepository;
@@ -16,6 +18,7 @@ import com.rajat_singh.leetcode_api.utility.DBUtilities;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -24,7 +27,9 @@ import org.tinylog.Logger;
 import java.text.DateFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.rajat_singh.leetcode_api.constants.Constants.*;
@@ -39,32 +44,51 @@ public class LeetCodeSyncScheduler {
     private final ContestMapper contestMapper;
     private final DBUtilities dbUtilities;
     private final GlobalLeetCodeContestsRepository globalLeetCodeContestsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public LeetCodeSyncScheduler(LeetCodeClient leetCodeApiClient,
                                   QuestionsRepository questionRepository,
                                   QuestionMapper questionMapper,
                                   ContestMapper contestMapper,
                                   DBUtilities dbUtilities,
-                                  GlobalLeetCodeContestsRepository globalLeetCodeContestsRepository) {
+                                  GlobalLeetCodeContestsRepository globalLeetCodeContestsRepository,
+                                  ApplicationEventPublisher eventPublisher) {
         this.leetCodeApiClient = leetCodeApiClient;
         this.questionRepository = questionRepository;
         this.questionMapper = questionMapper;
         this.contestMapper = contestMapper;
         this.dbUtilities = dbUtilities;
         this.globalLeetCodeContestsRepository = globalLeetCodeContestsRepository;
+        this.eventPublisher = eventPublisher;
     }
 
+    /*
+     * Questions saved per transaction while the catalog streams in: one lookup and one saveAll per batch
+     * instead of a round trip per question.
+     */
+    private static final int SYNC_BATCH_SIZE = 200;
+
     // Runs every week for full data sync
     @Async
     @Scheduled(fixedRate = WEEK_IN_MILLISECONDS)
     public void syncQuestionData() {
         Logger.info("Starting LeetCode [Full Data] sync... at {}", DateFormat.getDateInstance().format(System.currentTimeMillis()));
         long startTime = System.currentTimeMillis();
-        QuestionListResponse response = leetCodeApiClient.fetchAllQuestions(false);
-
-        for (QuestionListResponse.Question dto : response.getData().getProblemsetQuestionListV2().getQuestions()) {
+        try {
+            int synced = leetCodeApiClient.streamAllQuestions(false, SYNC_BATCH_SIZE, this::syncQuestions);
+            long endTime = System.currentTimeMillis();
+            Logger.info("LeetCode [Full Data] sync of {} questions completed in {} seconds.", synced, (endTime - startTime) / 1000);
+        } finally {
+            // batches saved before a failure are already committed, so the catalog is rebuilt either way
+            eventPublisher.publishEvent(new CatalogUpdatedEvent(Catalog.QUESTIONS));
+        }
+    }
 
-            QuestionEntity existingQuestion = questionRepository.findByTitleSlug(dto.getTitleSlug());
+    private void syncQuestions(List<QuestionListResponse.Question> batch) {
+        Map<String, QuestionEntity> existing = findByTitleSlug(batch);
+        List<QuestionEntity> toSave = new ArrayList<>(batch.size());
+        for (QuestionListResponse.Question dto : batch) {
+            QuestionEntity existingQuestion = existing.get(dto.getTitleSlug());
             if(Objects.isNull(existingQuestion)){
                 existingQuestion = new QuestionEntity();
             }
@@ -86,11 +110,10 @@ public class LeetCodeSyncScheduler {
             } else {
                 existingQuestion.getTopicTags().clear();
             }
-            
-            questionRepository.save(existingQuestion);
+            toSave.add(existingQuestion);
         }
-        long endTime = System.currentTimeMillis();
-        Logger.info("LeetCode [Full Data] sync completed in {} seconds.", (endTime - startTime) / 1000);
+
+        questionRepository.saveAll(toSave);
     }
 
     @Scheduled(fixedRate = DAY_IN_MILLISECONDS) // Runs every day for AC Rate sync
@@ -98,18 +121,32 @@ public class LeetCodeSyncScheduler {
     public void syncAcRateData() {
         Logger.info("Starting LeetCode [AC Rate] sync... at {}", DateFormat.getDateInstance().format(System.currentTimeMillis()));
         Long startTime = System.currentTimeMillis();
-        QuestionListResponse response = leetCodeApiClient.fetchAllQuestions(true);
-
-        for (QuestionListResponse.Question dto : response.getData().getProblemsetQuestionListV2().getQuestions()) {
+        try {
+            int synced = leetCodeApiClient.streamAllQuestions(true, SYNC_BATCH_SIZE, this::syncAcRates);
+            Long endTime = System.currentTimeMillis();
+            Logger.info("LeetCode [AC Rate] sync of {} questions completed in {} seconds.", synced, (endTime - startTime) / 1000);
+        } finally {
+            eventPublisher.publishEvent(new CatalogUpdatedEvent(Catalog.QUESTIONS));
+        }
+    }
 
-            QuestionEntity existingQuestion = questionRepository.findByTitleSlug(dto.getTitleSlug());
+    private void syncAcRates(List<QuestionListResponse.Question> batch) {
+        Map<String, QuestionEntity> existing = findByTitleSlug(batch);
+        List<QuestionEntity> toSave = new ArrayList<>(existing.size());
+        for (QuestionListResponse.Question dto : batch) {
+            QuestionEntity existingQuestion = existing.get(dto.getTitleSlug());
             if(Objects.nonNull(existingQuestion)){
                 existingQuestion.setAcRate(dto.getAcRate());
-                questionRepository.save(existingQuestion);
+                toSave.add(existingQuestion);
             }
         }
-        Long endTime = System.currentTimeMillis();
-        Logger.info("LeetCode [AC Rate] sync completed in {} seconds.", (endTime - startTime) / 1000);
+        questionRepository.saveAll(toSave);
+    }
+
+    private Map<String, QuestionEntity> findByTitleSlug(List<QuestionListResponse.Question> batch) {
+        List<String> titleSlugs = batch.stream().map(QuestionListResponse.Question::getTitleSlug).toList();
+        return questionRepository.findByTitleSlugIn(titleSlugs).stream()
+                .collect(Collectors.toMap(QuestionEntity::getTitleSlug, Function.identity()));
     }
 
     @Scheduled(cron = "0 1 0 * * ?") // Runs every day at 12:01 (UTC) for POTD sync
@@ -127,6 +164,7 @@ public class LeetCodeSyncScheduler {
 
         Long endTime = System.currentTimeMillis();
         Logger.info("LeetCode [POTD] sync completed in {} seconds.", (endTime - startTime) / 1000);
+        eventPublisher.publishEvent(new CatalogUpdatedEvent(Catalog.QUESTIONS));
     }
 
     @Scheduled(cron = "0 0 0 * * ?") // Runs every day at 12:00 AM (UTC) for POTD removal)
@@ -141,6 +179,7 @@ public class LeetCodeSyncScheduler {
         }
         Long endTime = System.currentTimeMillis();
         Logger.info("LeetCode [POTD] removal completed in {} seconds.", (endTime - startTime) / 1000);
+        eventPublisher.publishEvent(new CatalogUpdatedEvent(Catalog.QUESTIONS));
     }
 
     @Scheduled(fixedRate = MONTH_IN_MILLISECONDS)
@@ -167,6 +206,7 @@ public class LeetCodeSyncScheduler {
         }
         Long endTime = System.currentTimeMillis();
         Logger.info("LeetCode [Contest] sync completed in {} seconds.", (endTime - startTime) / 1000);
+        eventPublisher.publishEvent(new CatalogUpdatedEvent(Catalog.CONTESTS));
     }
 
     @PostConstruct
@@ -0,0 +1,55 @@
+package com.rajat_singh.leetcode_api.service;
+
+import com.rajat_singh.leetcode_api.enums.Catalog;
+import com.rajat_singh.leetcode_api.events.CatalogUpdatedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.tinylog.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Version of each catalog, bumped whenever a sync finishes. Responses built from a catalog are fully
+ * determined by (catalog version, request), so that pair is a strong ETag that can be checked without
+ * touching the database.
+ */
+@Component
+public class CatalogVersion {
+
+    private record Version(long number, Instant updatedAt) {}
+
+    private final Map<Catalog, Version> versions = new EnumMap<>(Catalog.class);
+
+    public CatalogVersion() {
+        // nothing tells us what the DB looked like before a restart, so every boot starts a new version
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        for (Catalog catalog : Catalog.values()) {
+            versions.put(catalog, new Version(now.toEpochMilli(), now));
+        }
+    }
+
+    @EventListener
+    public synchronized void onCatalogUpdated(CatalogUpdatedEvent event) {
+        Version current = versions.get(event.catalog());
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        versions.put(event.catalog(), new Version(current.number() + 1, now));
+        Logger.info("{} catalog updated, now at version {}", event.catalog(), current.number() + 1);
+    }
+
+    /*
+     * Strong ETag for the response to request (page, filters, ...) at the catalog's current version.
+     */
+    public synchronized String etag(Catalog catalog, Object request) {
+        String variant = DigestUtils.md5DigestAsHex(String.valueOf(request).getBytes(StandardCharsets.UTF_8));
+        return "\"" + catalog.name().toLowerCase() + "-" + versions.get(catalog).number() + "-" + variant + "\"";
+    }
+
+    public synchronized Instant lastModified(Catalog catalog) {
+        return versions.get(catalog).updatedAt();
+    }
+}
@@ -1,17 +1,119 @@
 package com.rajat_singh.leetcode_api.service;
 
 import com.rajat_singh.leetcode_api.repository.ContestHistoryRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.tinylog.Logger;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Service
-@RequiredArgsConstructor
 public class ContestHistoryCleanupService {
 
+    /*
+     * The cache whose loads write a user's contest_history rows. Deleting them is what makes the next history
+     * request refetch, so they are kept only while the user is back in this cache; the ranking caches are
+     * refreshed ahead for hot users and would otherwise keep the rows alive, and stale, for good.
+     */
+    private static final String ROWS_CACHE = "contestHistoryCache";
+
     private final ContestHistoryRepository contestHistoryRepository;
+    // CacheConfig builds the cache manager with our listener, so it is looked up lazily
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final BlockingQueue<String> pendingEvictions;
+    private final Counter droppedEvictions;
+    private ScheduledExecutorService drainExecutor;
+
+    @Value("${leetcode.cleanup.batch-size:500}")
+    private int batchSize;
+
+    @Value("${leetcode.cleanup.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    public ContestHistoryCleanupService(ContestHistoryRepository contestHistoryRepository,
+                                        ObjectProvider<CacheManager> cacheManager,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${leetcode.cleanup.queue-capacity:10000}") int queueCapacity) {
+        this.contestHistoryRepository = contestHistoryRepository;
+        this.cacheManager = cacheManager;
+        this.pendingEvictions = new LinkedBlockingQueue<>(queueCapacity);
+        this.droppedEvictions = meterRegistry.counter("leetcode.cleanup.dropped");
+        meterRegistry.gauge("leetcode.cleanup.queue.size", pendingEvictions, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    void startDrainer() {
+        drainExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "contest-history-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        drainExecutor.scheduleWithFixedDelay(this::drain, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopDrainer() {
+        drainExecutor.shutdown();
+        drain();
+    }
+
+    /*
+     * Called from the Caffeine removal listener: only records the user, the DELETE happens later in a batch.
+     */
+    public void enqueueEviction(String username) {
+        if (!pendingEvictions.offer(username)) {
+            droppedEvictions.increment();
+            Logger.warn("Contest history cleanup queue is full, dropping eviction for user: {}", username);
+        }
+    }
+
+    void drain() {
+        try {
+            List<String> drained = new ArrayList<>();
+            while (pendingEvictions.drainTo(drained, batchSize) > 0) {
+                deleteBatch(drained);
+                drained.clear();
+            }
+        } catch (Exception e) {
+            Logger.error(e, "Error draining contest history cleanup queue");
+        }
+    }
+
+    private void deleteBatch(List<String> usernames) {
+        Set<String> toDelete = new LinkedHashSet<>(usernames);
+        toDelete.removeIf(this::isCached);
+        if (toDelete.isEmpty()) {
+            return;
+        }
+        int deleted = contestHistoryRepository.deleteByUsernameIn(toDelete);
+        Logger.info("Evicted {} DB records for {} users", deleted, toDelete.size());
+    }
+
+    private boolean isCached(String username) {
+        CacheManager manager = cacheManager.getIfAvailable();
+        if (manager == null) {
+            return false;
+        }
+        Cache cache = manager.getCache(ROWS_CACHE);
+        // peek without counting a hit or miss in the cache stats
+        return cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache
+                && nativeCache.asMap().containsKey(username);
+    }
 
     public void evictUserContestData(String username) {
         try {
@@ -32,6 +134,6 @@ public class ContestHistoryCleanupService {
     }
 
     public void evictInactiveUsers(List<String> usernames) {
-        usernames.forEach(this::evictUserContestData);
+        usernames.forEach(this::enqueueEviction);
     }
 }
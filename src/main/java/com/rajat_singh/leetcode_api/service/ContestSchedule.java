@@ -0,0 +1,125 @@
+package com.rajat_singh.leetcode_api.service;
+
+import com.rajat_singh.leetcode_api.entity.ContestDataEntity;
+import com.rajat_singh.leetcode_api.repository.GlobalLeetCodeContestsRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.tinylog.Logger;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * When contest data can change. Weekly and biweekly contests run on a fixed cadence, so the latest start of
+ * each series in contest_data is enough to project the next ones. A contest's ratings are published some time
+ * after it ends; that rating window is when cached rankings and histories go stale.
+ */
+@Component
+public class ContestSchedule {
+
+    private static final Duration CONTEST_LENGTH = Duration.ofMinutes(90);
+
+    private enum Series {
+        WEEKLY("Weekly Contest", Duration.ofDays(7)),
+        BIWEEKLY("Biweekly Contest", Duration.ofDays(14));
+
+        private final String titlePrefix;
+        private final Duration period;
+
+        Series(String titlePrefix, Duration period) {
+            this.titlePrefix = titlePrefix;
+            this.period = period;
+        }
+    }
+
+    private record Anchor(Instant start, Duration period) {}
+
+    private final GlobalLeetCodeContestsRepository globalLeetCodeContestsRepository;
+
+    @Value("${leetcode.cache.contest.rating-window-start:48h}")
+    private Duration ratingWindowStart;
+
+    @Value("${leetcode.cache.contest.rating-window-end:108h}")
+    private Duration ratingWindowEnd;
+
+    private volatile List<Anchor> anchors = List.of();
+
+    public ContestSchedule(GlobalLeetCodeContestsRepository globalLeetCodeContestsRepository) {
+        this.globalLeetCodeContestsRepository = globalLeetCodeContestsRepository;
+    }
+
+    @PostConstruct
+    @Scheduled(fixedRate = 6 * 60 * 60 * 1000, initialDelay = 6 * 60 * 60 * 1000)
+    public void refresh() {
+        List<Anchor> loaded = new ArrayList<>();
+        for (Series series : Series.values()) {
+            ContestDataEntity latest = globalLeetCodeContestsRepository.findTopByTitleStartingWithOrderByStartTimeDesc(series.titlePrefix);
+            if (Objects.nonNull(latest)) {
+                loaded.add(new Anchor(Instant.ofEpochSecond(latest.getStartTime()), series.period));
+            }
+        }
+        anchors = List.copyOf(loaded);
+        Logger.info("Loaded contest schedule anchors: {}", anchors);
+    }
+
+    /*
+     * True while some contest's ratings may be published at any moment.
+     */
+    public boolean inRatingWindow(Instant now) {
+        if (anchors.isEmpty()) {
+            return ZonedDateTime.ofInstant(now, ZoneOffset.UTC).getDayOfWeek() == DayOfWeek.WEDNESDAY;
+        }
+        for (Anchor anchor : anchors) {
+            for (Instant end : contestEndsAround(anchor, now)) {
+                if (!now.isBefore(end.plus(ratingWindowStart)) && now.isBefore(end.plus(ratingWindowEnd))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /*
+     * The next moment after now at which a contest ends or a rating window opens or closes.
+     */
+    public Instant nextChange(Instant now) {
+        if (anchors.isEmpty()) {
+            // no contests synced yet: fall back to LeetCode's usual Wednesday rating update
+            ZonedDateTime utc = ZonedDateTime.ofInstant(now, ZoneOffset.UTC);
+            return utc.truncatedTo(ChronoUnit.DAYS)
+                    .with(TemporalAdjusters.next(utc.getDayOfWeek() == DayOfWeek.WEDNESDAY ? DayOfWeek.THURSDAY : DayOfWeek.WEDNESDAY))
+                    .toInstant();
+        }
+        Instant next = null;
+        for (Anchor anchor : anchors) {
+            for (Instant end : contestEndsAround(anchor, now)) {
+                for (Instant boundary : List.of(end, end.plus(ratingWindowStart), end.plus(ratingWindowEnd))) {
+                    if (boundary.isAfter(now) && (next == null || boundary.isBefore(next))) {
+                        next = boundary;
+                    }
+                }
+            }
+        }
+        return next;
+    }
+
+    /*
+     * End of the first occurrence whose rating window has not closed yet, and the one after it.
+     */
+    private List<Instant> contestEndsAround(Anchor anchor, Instant now) {
+        Duration sinceAnchorWindowClosed = Duration.between(anchor.start().plus(CONTEST_LENGTH).plus(ratingWindowEnd), now);
+        long occurrence = sinceAnchorWindowClosed.isNegative() ? 0 : sinceAnchorWindowClosed.dividedBy(anchor.period()) + 1;
+        Instant end = anchor.start().plus(anchor.period().multipliedBy(occurrence)).plus(CONTEST_LENGTH);
+        return List.of(end, end.plus(anchor.period()));
+    }
+}
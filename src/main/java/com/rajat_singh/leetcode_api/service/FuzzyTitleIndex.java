@@ -0,0 +1,236 @@
+package com.rajat_singh.leetcode_api.service;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Typo-tolerant lookup of title words, built once per catalog snapshot. Every title word is stored with all
+ * its variants of up to {@link #maxDistance} deleted characters, so a misspelt query word finds its candidates
+ * by generating its own deletes and looking them up; only those few candidates get a real edit distance
+ * check. Words of one or two letters must match exactly, longer ones may be one or two edits away.
+ */
+final class FuzzyTitleIndex {
+
+    /*
+     * Rows whose title has a close enough word for every query word, and per row a distance to rank them by:
+     * the summed edit distance of the best matches, then the number of title words the query did not ask for.
+     * 0 is an exact hit on the whole title.
+     */
+    record Match(RoaringBitmap rows, IntUnaryOperator distance) {
+
+        static final Match NONE = new Match(new RoaringBitmap(), row -> 0);
+    }
+
+    /*
+     * Bounds on what a query may cost: every query word generates its own deletes, so a keyword no title could
+     * match is turned away before any are generated.
+     */
+    static final int MAX_KEYWORD_LENGTH = 256;
+    static final int MAX_QUERY_WORDS = 32;
+
+    private final String[] words;
+    private final RoaringBitmap[] rowsByWord;
+    private final int[][] wordsByRow;
+    // deletion variant -> ids of the words it came from
+    private final Map<String, int[]> deletes;
+    private final int longestWord;
+
+    private FuzzyTitleIndex(String[] words, RoaringBitmap[] rowsByWord, int[][] wordsByRow, Map<String, int[]> deletes,
+                            int longestWord) {
+        this.words = words;
+        this.rowsByWord = rowsByWord;
+        this.wordsByRow = wordsByRow;
+        this.deletes = deletes;
+        this.longestWord = longestWord;
+    }
+
+    /*
+     * titles are lowercased, one per catalog row (null allowed).
+     */
+    static FuzzyTitleIndex build(String[] titles) {
+        Map<String, Integer> wordIds = new LinkedHashMap<>();
+        List<RoaringBitmap> rowsByWord = new ArrayList<>();
+        int[][] wordsByRow = new int[titles.length][];
+        for (int row = 0; row < titles.length; row++) {
+            wordsByRow[row] = tokenize(titles[row]).stream()
+                    .mapToInt(word -> wordIds.computeIfAbsent(word, key -> {
+                        rowsByWord.add(new RoaringBitmap());
+                        return rowsByWord.size() - 1;
+                    }))
+                    .distinct()
+                    .toArray();
+            for (int wordId : wordsByRow[row]) {
+                rowsByWord.get(wordId).add(row);
+            }
+        }
+
+        String[] words = wordIds.keySet().toArray(String[]::new);
+        Map<String, List<Integer>> deletes = new HashMap<>();
+        for (int wordId = 0; wordId < words.length; wordId++) {
+            for (String variant : variants(words[wordId], maxDistance(words[wordId].length()))) {
+                deletes.computeIfAbsent(variant, key -> new ArrayList<>(1)).add(wordId);
+            }
+        }
+        Map<String, int[]> packed = new HashMap<>(deletes.size() * 4 / 3 + 1);
+        deletes.forEach((variant, ids) -> packed.put(variant, ids.stream().mapToInt(Integer::intValue).toArray()));
+        rowsByWord.forEach(RoaringBitmap::runOptimize);
+        int longestWord = Arrays.stream(words).mapToInt(String::length).max().orElse(0);
+        return new FuzzyTitleIndex(words, rowsByWord.toArray(RoaringBitmap[]::new), wordsByRow, packed, longestWord);
+    }
+
+    Match match(String keyword) {
+        if (keyword.length() > MAX_KEYWORD_LENGTH) {
+            return Match.NONE;
+        }
+        List<String> queryWords = tokenize(keyword.toLowerCase());
+        if (queryWords.isEmpty() || queryWords.size() > MAX_QUERY_WORDS) {
+            return Match.NONE;
+        }
+        // more than two edits from every title word, and the longest would still make a lot of deletes
+        for (String queryWord : queryWords) {
+            if (queryWord.length() > longestWord + 2) {
+                return Match.NONE;
+            }
+        }
+        // per query word: the title words close enough to it, with their distance
+        List<Map<Integer, Integer>> closeWords = new ArrayList<>(queryWords.size());
+        RoaringBitmap[] rowsPerWord = new RoaringBitmap[queryWords.size()];
+        for (int i = 0; i < queryWords.size(); i++) {
+            Map<Integer, Integer> close = closeWords(queryWords.get(i));
+            if (close.isEmpty()) {
+                return Match.NONE;
+            }
+            closeWords.add(close);
+            rowsPerWord[i] = FastAggregation.or(close.keySet().stream().map(wordId -> rowsByWord[wordId]).iterator());
+        }
+
+        // worked out only for the rows that get sorted, not for every match
+        return new Match(FastAggregation.and(rowsPerWord), row -> {
+            int total = 0;
+            for (Map<Integer, Integer> close : closeWords) {
+                int best = Integer.MAX_VALUE;
+                for (int wordId : wordsByRow[row]) {
+                    best = Math.min(best, close.getOrDefault(wordId, Integer.MAX_VALUE));
+                }
+                total += best;
+            }
+            int extraWords = Math.max(0, wordsByRow[row].length - closeWords.size());
+            return total * 32 + Math.min(31, extraWords);
+        });
+    }
+
+    /*
+     * Title words within reach of queryWord, with their edit distance. Two words within k edits of each other
+     * share a variant with at most k deletions on each side, so only words sharing a variant need checking.
+     */
+    private Map<Integer, Integer> closeWords(String queryWord) {
+        Map<Integer, Integer> close = new HashMap<>();
+        int maxDistance = maxDistance(queryWord.length());
+        for (String variant : variants(queryWord, maxDistance)) {
+            int[] wordIds = deletes.get(variant);
+            if (wordIds == null) {
+                continue;
+            }
+            for (int wordId : wordIds) {
+                if (!close.containsKey(wordId)) {
+                    int allowed = Math.min(maxDistance, maxDistance(words[wordId].length()));
+                    int distance = distance(queryWord, words[wordId], allowed);
+                    // also remembered when too far, so the word is not checked again for the next variant
+                    close.put(wordId, distance <= allowed ? distance : -1);
+                }
+            }
+        }
+        close.values().removeIf(distance -> distance < 0);
+        return close;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static int maxDistance(int length) {
+        return length < 3 ? 0 : length < 7 ? 1 : 2;
+    }
+
+    /*
+     * word itself and every string obtained by deleting up to maxDeletes of its characters.
+     */
+    private static Set<String> variants(String word, int maxDeletes) {
+        Set<String> variants = new HashSet<>();
+        variants.add(word);
+        List<String> frontier = List.of(word);
+        for (int round = 0; round < maxDeletes; round++) {
+            List<String> next = new ArrayList<>();
+            for (String variant : frontier) {
+                for (int i = 0; i < variant.length(); i++) {
+                    String deleted = variant.substring(0, i) + variant.substring(i + 1);
+                    if (variants.add(deleted)) {
+                        next.add(deleted);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return variants;
+    }
+
+    /*
+     * Optimal string alignment distance (insertions, deletions, substitutions, adjacent swaps), giving up with
+     * limit + 1 once it is certain to exceed limit.
+     */
+    static int distance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], previous2[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+}
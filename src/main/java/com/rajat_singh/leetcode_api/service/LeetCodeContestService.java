@@ -2,11 +2,15 @@ package com.rajat_singh.leetcode_api.service;
 
 
 import com.rajat_singh.leetcode_api.client.LeetCodeClient;
+import com.rajat_singh.leetcode_api.client.OutboundScheduler;
+import com.rajat_singh.leetcode_api.config.CacheMetrics;
 import com.rajat_singh.leetcode_api.dto.*;
 import com.rajat_singh.leetcode_api.entity.ContestDataEntity;
 import com.rajat_singh.leetcode_api.entity.UserContestHistoryEntity;
 import com.rajat_singh.leetcode_api.enums.ContestFilterType;
+import com.rajat_singh.leetcode_api.enums.OutboundLane;
 import com.rajat_singh.leetcode_api.enums.UserContestType;
+import com.rajat_singh.leetcode_api.exceptions.BadRequestException;
 import com.rajat_singh.leetcode_api.exceptions.InvalidContestTime;
 import com.rajat_singh.leetcode_api.exceptions.InvalidTrendDirection;
 import com.rajat_singh.leetcode_api.exceptions.NoMatchingContest;
@@ -15,6 +19,9 @@ import com.rajat_singh.leetcode_api.mappers.ContestMapper;
 import com.rajat_singh.leetcode_api.repository.ContestHistoryRepository;
 import com.rajat_singh.leetcode_api.repository.GlobalLeetCodeContestsRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -23,10 +30,15 @@ import org.tinylog.Logger;
 
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 
 @RequiredArgsConstructor
@@ -37,13 +49,45 @@ public class LeetCodeContestService {
     private final ContestHistoryRepository userContestHistoryRepository;
     private final GlobalLeetCodeContestsRepository globalLeetCodeContestsRepository;
     private final ContestMapper contestMapper;
+    private final CacheManager cacheManager;
+    private final UnknownUserCache unknownUsers;
+    private final CacheMetrics cacheMetrics;
 
-    @Cacheable(value = "contestRankingCache", key = "#username")
+    @Value("${leetcode.batch.contest-ranking-chunk-size:25}")
+    private int rankingBatchChunkSize;
+
+    @Value("${leetcode.batch.contest-ranking-max-users:100}")
+    private int rankingBatchMaxUsers;
+
+    @Cacheable(value = "contestRankingCache", key = "#username", sync = true)
     public Optional<UserContestRanking> getUserContestRanking(String username){
+        unknownUsers.check(username);
+        Logger.info("Fetching contest ranking for user: {}", username);
+
+        return toContestRanking(username, leetCodeClient.fetchUserContestRanking(username, UserContestType.EXCLUDE_CONTEST_HISTORY));
+    }
+
+    public CompletableFuture<Optional<UserContestRanking>> getUserContestRankingAsync(String username) {
+        unknownUsers.check(username);
+        UserContestRanking cached = cached("contestRankingCache", username, UserContestRanking.class);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(Optional.of(cached));
+        }
         Logger.info("Fetching contest ranking for user: {}", username);
+        return load("contestRankingCache", () -> leetCodeClient.fetchUserContestRankingAsync(username, UserContestType.EXCLUDE_CONTEST_HISTORY)
+                .thenApply(response -> cache("contestRankingCache", username, toContestRanking(username, response))));
+    }
 
-        var response = leetCodeClient.fetchUserContestRanking(username, UserContestType.EXCLUDE_CONTEST_HISTORY);
+    /*
+     * Background reload of a stale contestRankingCache entry, in the prefetch lane so it never delays user calls.
+     */
+    public CompletableFuture<UserContestRanking> reloadContestRanking(String username) {
+        return OutboundScheduler.callAs(OutboundLane.PREFETCH,
+                        () -> leetCodeClient.fetchUserContestRankingAsync(username, UserContestType.EXCLUDE_CONTEST_HISTORY))
+                .thenApply(response -> toContestRanking(username, response).orElseThrow());
+    }
 
+    private Optional<UserContestRanking> toContestRanking(String username, UserContestResponse response) {
         if(Objects.nonNull(response) && Objects.nonNull(response.getData()) && Objects.nonNull(response.getData().getUserContestRanking())){
             Logger.info("Contest ranking found for user: {}", username);
             Logger.debug("Contest ranking details: {}", response.getData().getUserContestRanking());
@@ -51,15 +95,72 @@ public class LeetCodeContestService {
         }
 
         Logger.warn("No contest ranking found for user: {}", username);
+        // existing users who never entered a contest look the same, so this is not remembered as unknown
         throw new UserNotFoundException(username);
     }
 
-    @Cacheable(value = "contestRankingWithHistoryCache", key = "#username")
+    /*
+     * Leaderboard lookup: serves what it can from contestRankingCache and packs the misses into aliased
+     * upstream documents of at most rankingBatchChunkSize users each. Fetched rankings are written back
+     * per user, so later /users/{username}/contests/ranking calls hit the cache.
+     */
+    public Map<String, UserContestRanking> getUserContestRankings(List<String> usernames) {
+        List<String> distinctUsernames = new ArrayList<>(new LinkedHashSet<>(usernames));
+        if (distinctUsernames.isEmpty() || distinctUsernames.size() > rankingBatchMaxUsers) {
+            throw new BadRequestException("Number of usernames must be between 1 and " + rankingBatchMaxUsers);
+        }
+        Logger.info("Fetching contest ranking for {} users", distinctUsernames.size());
+
+        Cache cache = cacheManager.getCache("contestRankingCache");
+        Map<String, UserContestRanking> rankings = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String username : distinctUsernames) {
+            UserContestRanking cached = cache == null ? null : cache.get(username, UserContestRanking.class);
+            rankings.put(username, cached);
+            if (cached == null) {
+                misses.add(username);
+            }
+        }
+        Logger.info("Contest ranking batch: {} cached, {} to fetch", distinctUsernames.size() - misses.size(), misses.size());
+
+        for (int from = 0; from < misses.size(); from += rankingBatchChunkSize) {
+            List<String> chunk = misses.subList(from, Math.min(from + rankingBatchChunkSize, misses.size()));
+            leetCodeClient.fetchUserContestRankings(chunk).forEach((username, ranking) -> {
+                rankings.put(username, ranking);
+                if (cache != null && ranking != null) {
+                    cache.put(username, ranking);
+                }
+            });
+        }
+        return rankings;
+    }
+
+    @Cacheable(value = "contestRankingWithHistoryCache", key = "#username", sync = true)
     public Optional<UserContestResponse.DataNode> getUserContestRankingWithHistory(String username){
+        unknownUsers.check(username);
         Logger.info("Fetching contest ranking with history for user: {}", username);
 
-        var response = leetCodeClient.fetchUserContestRanking(username,UserContestType.INCLUDE_CONTEST_HISTORY);
+        return toContestRankingWithHistory(username, leetCodeClient.fetchUserContestRanking(username,UserContestType.INCLUDE_CONTEST_HISTORY));
+    }
+
+    public CompletableFuture<Optional<UserContestResponse.DataNode>> getUserContestRankingWithHistoryAsync(String username) {
+        unknownUsers.check(username);
+        UserContestResponse.DataNode cached = cached("contestRankingWithHistoryCache", username, UserContestResponse.DataNode.class);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(Optional.of(cached));
+        }
+        Logger.info("Fetching contest ranking with history for user: {}", username);
+        return load("contestRankingWithHistoryCache", () -> leetCodeClient.fetchUserContestRankingAsync(username, UserContestType.INCLUDE_CONTEST_HISTORY)
+                .thenApply(response -> cache("contestRankingWithHistoryCache", username, toContestRankingWithHistory(username, response))));
+    }
+
+    public CompletableFuture<UserContestResponse.DataNode> reloadContestRankingWithHistory(String username) {
+        return OutboundScheduler.callAs(OutboundLane.PREFETCH,
+                        () -> leetCodeClient.fetchUserContestRankingAsync(username, UserContestType.INCLUDE_CONTEST_HISTORY))
+                .thenApply(response -> toContestRankingWithHistory(username, response).orElseThrow());
+    }
 
+    private Optional<UserContestResponse.DataNode> toContestRankingWithHistory(String username, UserContestResponse response) {
         if(Objects.nonNull(response) && Objects.nonNull(response.getData())){
             Logger.info("Contest ranking with history found for user: {}", username);
             Logger.debug("Contest ranking with history details: {}", response.getData());
@@ -67,11 +168,33 @@ public class LeetCodeContestService {
         }
 
         Logger.warn("No contest ranking with history found for user: {}", username);
-        throw new UserNotFoundException(username);
+        throw unknownUsers.notFound(username);
+    }
+
+    /*
+     * Read/write the same entries the @Cacheable methods use, for the async paths that bypass the proxy.
+     */
+    private <T> T cached(String cacheName, String username, Class<T> type) {
+        Cache cache = cacheManager.getCache(cacheName);
+        return cache == null ? null : cache.get(username, type);
+    }
+
+    private <T> CompletableFuture<T> load(String cacheName, Supplier<CompletableFuture<T>> fetch) {
+        long start = System.nanoTime();
+        return fetch.get().whenComplete((result, error) -> cacheMetrics.recordLoad(cacheName, System.nanoTime() - start, error == null));
+    }
+
+    private <T> Optional<T> cache(String cacheName, String username, Optional<T> value) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            value.ifPresent(v -> cache.put(username, v));
+        }
+        return value;
     }
 
-    @Cacheable(value = "contestHistoryCache", key = "#username")
+    @Cacheable(value = "contestHistoryCache", key = "#username", sync = true)
     public Optional<List<UserContestRankingHistory>> getUserContestRankingHistory(String username) {
+        unknownUsers.check(username);
         Logger.info("Fetching contest ranking history for user: {}", username);
 
         // Try from DB
@@ -113,6 +236,7 @@ public class LeetCodeContestService {
     }
 
     public Optional<List<UserContestRankingHistory>> getUsersContestInfo(String username, String value, ContestFilterType filterType) {
+        unknownUsers.check(username);
         Logger.info("Fetching contest info for user: {} with filter: {} and value: {}", username, filterType, value);
         List<UserContestHistoryEntity> entity = null;
         if(!userContestHistoryRepository.existsByUsername(username)){
@@ -200,6 +324,7 @@ public class LeetCodeContestService {
     }
 
     public Optional<UserContestBiggestRatingJump> getBiggestRatingJump(String username) {
+        unknownUsers.check(username);
         if(!userContestHistoryRepository.existsByUsername(username)){
             Logger.warn("No contest history found for user: {}", username);
             fetchContestHistoryFromLeetCode(username);
@@ -268,11 +393,13 @@ public class LeetCodeContestService {
     }
 
     public void evictUserContestData(String username) {
+        unknownUsers.forget(username);
         userContestHistoryRepository.deleteByUsername(username);
         Logger.info("Evicted contest history data for user: {}", username);
     }
 
     public Optional<UserContestRankingHistory> getBestContestRanking(String username) {
+        unknownUsers.check(username);
         if(!userContestHistoryRepository.existsByUsername(username)){
             Logger.warn("No contest history found for user: {}", username);
             fetchContestHistoryFromLeetCode(username);
@@ -4,17 +4,14 @@ import com.rajat_singh.leetcode_api.client.LeetCodeClient;
 import com.rajat_singh.leetcode_api.dto.QuestionListResponse;
 import com.rajat_singh.leetcode_api.dto.QuestionResponseDTO;
 import com.rajat_singh.leetcode_api.dto.QuestionSearchRequest;
-import com.rajat_singh.leetcode_api.entity.QuestionEntity;
+import com.rajat_singh.leetcode_api.dto.QuestionSuggestionDTO;
 import com.rajat_singh.leetcode_api.enums.questions.SortOrder;
-import com.rajat_singh.leetcode_api.mappers.QuestionMapper;
-import com.rajat_singh.leetcode_api.repository.QuestionsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.data.web.SpringDataWebProperties;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.tinylog.Logger;
 
@@ -26,21 +23,18 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class LeetCodeQuestionsService {
 
-    private final QuestionsRepository questionRepository;
-    private final QuestionSpecificationService specificationService;
-    private final QuestionMapper questionMapper;
+    private final QuestionCatalog questionCatalog;
 
     public Page<QuestionResponseDTO> findQuestions(QuestionSearchRequest request) {
 
         Pageable pageable = createPageable(request);
 
-        Specification<QuestionEntity> spec = specificationService.build(
-                request.getFilters(), request.getSearchKeyword()
-        );
-
-        Page<QuestionEntity> entityPage = questionRepository.findAll(spec, pageable);
+        // served from memory; QuestionSpecificationService remains the SQL equivalent
+        return questionCatalog.search(request.getFilters(), request.getSearchKeyword(), request.isFuzzy(), pageable);
+    }
 
-        return entityPage.map(questionMapper::entityToResponseDTO);
+    public List<QuestionSuggestionDTO> autocomplete(String prefix, int limit) {
+        return questionCatalog.autocomplete(prefix, limit);
     }
 
     /**
@@ -65,6 +59,7 @@ public class LeetCodeQuestionsService {
                 case AC_RATE -> "acRate";
                 case FRONTEND_ID, CUSTOM -> "id";
                 case DIFFICULTY -> "difficulty";
+                case RELEVANCE -> QuestionCatalog.RELEVANCE;
             };
 
             sort = Sort.by(direction, field);
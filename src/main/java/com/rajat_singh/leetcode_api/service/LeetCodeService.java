@@ -6,10 +6,13 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rajat_singh.leetcode_api.dto.*;
 import com.rajat_singh.leetcode_api.client.LeetCodeClient;
+import com.rajat_singh.leetcode_api.config.CacheMetrics;
+import com.rajat_singh.leetcode_api.config.UsernameKeyGenerator;
 import com.rajat_singh.leetcode_api.enums.UserContestType;
 import com.rajat_singh.leetcode_api.exceptions.BadRequestException;
-import com.rajat_singh.leetcode_api.exceptions.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.tinylog.Logger;
@@ -18,6 +21,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -27,10 +33,26 @@ public class LeetCodeService {
 
     private final ObjectMapper objectMapper;
 
+    private final CacheManager cacheManager;
+
+    private final UnknownUserCache unknownUsers;
+
+    private final CacheMetrics cacheMetrics;
+
+    @Cacheable(value = "userProfileCache", keyGenerator = "usernameKeyGenerator", sync = true)
     public Optional<UserProgressResponse.UserProfileUserQuestionProgressV2> getUserProfile(String username) {
+        unknownUsers.check(username);
         Logger.info("Fetching user profile stats for user: {}",username);
-        var response = leetCodeClient.fetchUserProgress(username);
+        return toUserProfile(username, leetCodeClient.fetchUserProgress(username));
+    }
 
+    public CompletableFuture<Optional<UserProgressResponse.UserProfileUserQuestionProgressV2>> getUserProfileAsync(String username) {
+        unknownUsers.check(username);
+        return cachedAsync("userProfileCache", UsernameKeyGenerator.keyFor(username), UserProgressResponse.UserProfileUserQuestionProgressV2.class,
+                () -> leetCodeClient.fetchUserProgressAsync(username), response -> toUserProfile(username, response));
+    }
+
+    private Optional<UserProgressResponse.UserProfileUserQuestionProgressV2> toUserProfile(String username, UserProgressResponse response) {
         if (response != null && response.getData() != null) {
             var userProfile = response.getData().getUserProfileUserQuestionProgressV2();
             Logger.info("User profile stats found for: {}",username);
@@ -39,13 +61,23 @@ public class LeetCodeService {
         }
 
         Logger.warn("No user profile stats found for user: {}", username);
-        throw new UserNotFoundException(username);
+        throw unknownUsers.notFound(username);
     }
 
+    @Cacheable(value = "userLanguageStatsCache", keyGenerator = "usernameKeyGenerator", sync = true)
     public Optional<UserLanguageStats.MatchedUser> getUserLanguageStats(String username){
+        unknownUsers.check(username);
         Logger.info("Fetching language stats for user: {}", username);
-        var response = leetCodeClient.fetchUserLanguageStats(username);
+        return toLanguageStats(username, leetCodeClient.fetchUserLanguageStats(username));
+    }
+
+    public CompletableFuture<Optional<UserLanguageStats.MatchedUser>> getUserLanguageStatsAsync(String username) {
+        unknownUsers.check(username);
+        return cachedAsync("userLanguageStatsCache", UsernameKeyGenerator.keyFor(username), UserLanguageStats.MatchedUser.class,
+                () -> leetCodeClient.fetchUserLanguageStatsAsync(username), response -> toLanguageStats(username, response));
+    }
 
+    private Optional<UserLanguageStats.MatchedUser> toLanguageStats(String username, UserLanguageStats response) {
         if(Objects.nonNull(response) && Objects.nonNull(response.getData()) && Objects.nonNull(response.getData().getMatchedUser())) {
             Logger.info("Language stats found for user: {}", username);
             var matchedUser = response.getData().getMatchedUser();
@@ -54,13 +86,23 @@ public class LeetCodeService {
         }
 
         Logger.warn("No language stats found for user: {}", username);
-        throw new UserNotFoundException(username);
+        throw unknownUsers.notFound(username);
     }
 
+    @Cacheable(value = "userPublicInfoCache", keyGenerator = "usernameKeyGenerator", sync = true)
     public Optional<UserPublicInfo.MatchedUser> getUserPublicInfo(String username){
+        unknownUsers.check(username);
         Logger.info("Fetching public info for user: {}", username);
-        var response = leetCodeClient.fetchUserPublicInfo(username);
+        return toPublicInfo(username, leetCodeClient.fetchUserPublicInfo(username));
+    }
+
+    public CompletableFuture<Optional<UserPublicInfo.MatchedUser>> getUserPublicInfoAsync(String username) {
+        unknownUsers.check(username);
+        return cachedAsync("userPublicInfoCache", UsernameKeyGenerator.keyFor(username), UserPublicInfo.MatchedUser.class,
+                () -> leetCodeClient.fetchUserPublicInfoAsync(username), response -> toPublicInfo(username, response));
+    }
 
+    private Optional<UserPublicInfo.MatchedUser> toPublicInfo(String username, UserPublicInfo response) {
         if(Objects.nonNull(response) && Objects.nonNull(response.getData()) && Objects.nonNull(response.getData().getMatchedUser())){
             Logger.info("Public info found for user: {}", username);
             var matchedUser = response.getData().getMatchedUser();
@@ -69,14 +111,24 @@ public class LeetCodeService {
         }
 
         Logger.warn("No public info found for user: {}", username);
-        throw new UserNotFoundException(username);
+        throw unknownUsers.notFound(username);
     }
 
 
+    @Cacheable(value = "userBadgesCache", keyGenerator = "usernameKeyGenerator", sync = true)
     public Optional<UsersBadgeListResponse.MatchedUser> getUserBadgesList(String username) {
+        unknownUsers.check(username);
         Logger.info("Fetching badges for user: {}", username);
-        var response = leetCodeClient.fetchUserBadgesList(username);
+        return toBadges(username, leetCodeClient.fetchUserBadgesList(username));
+    }
+
+    public CompletableFuture<Optional<UsersBadgeListResponse.MatchedUser>> getUserBadgesListAsync(String username) {
+        unknownUsers.check(username);
+        return cachedAsync("userBadgesCache", UsernameKeyGenerator.keyFor(username), UsersBadgeListResponse.MatchedUser.class,
+                () -> leetCodeClient.fetchUserBadgesListAsync(username), response -> toBadges(username, response));
+    }
 
+    private Optional<UsersBadgeListResponse.MatchedUser> toBadges(String username, UsersBadgeListResponse response) {
         if (Objects.nonNull(response) && Objects.nonNull(response.getData()) && Objects.nonNull(response.getData().getMatchedUser())) {
             Logger.info("Badges found for user: {}", username);
             var matchedUser = response.getData().getMatchedUser();
@@ -85,13 +137,23 @@ public class LeetCodeService {
         }
 
         Logger.warn("No badges found for user: {}", username);
-        throw new UserNotFoundException(username);
+        throw unknownUsers.notFound(username);
     }
 
+    @Cacheable(value = "userSkillStatsCache", keyGenerator = "usernameKeyGenerator", sync = true)
     public Optional<UserSkillStatsResponse.MatchedUser> getUserSkillStats(String username) {
+        unknownUsers.check(username);
         Logger.info("Fetching skill stats for user: {}", username);
-        var response = leetCodeClient.fetchUserSkillStats(username);
+        return toSkillStats(username, leetCodeClient.fetchUserSkillStats(username));
+    }
 
+    public CompletableFuture<Optional<UserSkillStatsResponse.MatchedUser>> getUserSkillStatsAsync(String username) {
+        unknownUsers.check(username);
+        return cachedAsync("userSkillStatsCache", UsernameKeyGenerator.keyFor(username), UserSkillStatsResponse.MatchedUser.class,
+                () -> leetCodeClient.fetchUserSkillStatsAsync(username), response -> toSkillStats(username, response));
+    }
+
+    private Optional<UserSkillStatsResponse.MatchedUser> toSkillStats(String username, UserSkillStatsResponse response) {
         if (Objects.nonNull(response) && Objects.nonNull(response.getData()) && Objects.nonNull(response.getData().getMatchedUser())) {
             Logger.info("Skill stats found for user: {}", username);
             var matchedUser = response.getData().getMatchedUser();
@@ -100,17 +162,135 @@ public class LeetCodeService {
         }
 
         Logger.warn("No skill stats found for user: {}", username);
-        throw new UserNotFoundException(username);
+        throw unknownUsers.notFound(username);
+    }
+
+    /*
+     * Serves all five profile sections with one upstream request. Sections are read from and written back to
+     * the per-endpoint caches, so a dashboard load also warms /profile, /languageStats, /publicInfo, etc.
+     */
+    public Optional<UserFullProfileResponse.DataNode> getUserFullProfile(String username) {
+        unknownUsers.check(username);
+        Logger.info("Fetching full profile for user: {}", username);
+
+        UserFullProfileResponse.DataNode cached = cachedFullProfile(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return toFullProfile(username, leetCodeClient.fetchUserFullProfile(username));
+    }
+
+    public CompletableFuture<Optional<UserFullProfileResponse.DataNode>> getUserFullProfileAsync(String username) {
+        unknownUsers.check(username);
+        Logger.info("Fetching full profile for user: {}", username);
+
+        UserFullProfileResponse.DataNode cached = cachedFullProfile(username);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(Optional.of(cached));
+        }
+        return leetCodeClient.fetchUserFullProfileAsync(username).thenApply(response -> toFullProfile(username, response));
+    }
+
+    /*
+     * All five sections from the section caches, or null if any of them is missing.
+     */
+    private UserFullProfileResponse.DataNode cachedFullProfile(String username) {
+        UserFullProfileResponse.DataNode cached = new UserFullProfileResponse.DataNode();
+        cached.setProgress(cachedSection("userProfileCache", username, UserProgressResponse.UserProfileUserQuestionProgressV2.class));
+        cached.setLanguageStats(cachedSection("userLanguageStatsCache", username, UserLanguageStats.MatchedUser.class));
+        cached.setPublicInfo(cachedSection("userPublicInfoCache", username, UserPublicInfo.MatchedUser.class));
+        cached.setBadges(cachedSection("userBadgesCache", username, UsersBadgeListResponse.MatchedUser.class));
+        cached.setSkillStats(cachedSection("userSkillStatsCache", username, UserSkillStatsResponse.MatchedUser.class));
+        if (Objects.nonNull(cached.getProgress()) && Objects.nonNull(cached.getLanguageStats()) && Objects.nonNull(cached.getPublicInfo())
+                && Objects.nonNull(cached.getBadges()) && Objects.nonNull(cached.getSkillStats())) {
+            Logger.info("Full profile for user: {} served from section caches", username);
+            return cached;
+        }
+        return null;
     }
 
+    private Optional<UserFullProfileResponse.DataNode> toFullProfile(String username, UserFullProfileResponse response) {
+        // matchedUser comes back null for unknown usernames, so publicInfo doubles as the existence check
+        if (Objects.nonNull(response) && Objects.nonNull(response.getData()) && Objects.nonNull(response.getData().getPublicInfo())) {
+            Logger.info("Full profile found for user: {}", username);
+            var dataNode = response.getData();
+            putSection("userProfileCache", username, dataNode.getProgress());
+            putSection("userLanguageStatsCache", username, dataNode.getLanguageStats());
+            putSection("userPublicInfoCache", username, dataNode.getPublicInfo());
+            putSection("userBadgesCache", username, dataNode.getBadges());
+            putSection("userSkillStatsCache", username, dataNode.getSkillStats());
+            Logger.debug("Full profile details: {}", dataNode);
+            return Optional.of(dataNode);
+        }
+
+        Logger.warn("No full profile found for user: {}", username);
+        throw unknownUsers.notFound(username);
+    }
+
+    private <T> T cachedSection(String cacheName, String username, Class<T> type) {
+        return cached(cacheName, UsernameKeyGenerator.keyFor(username), type);
+    }
+
+    private void putSection(String cacheName, String username, Object section) {
+        put(cacheName, UsernameKeyGenerator.keyFor(username), section);
+    }
+
+    private <T> T cached(String cacheName, String key, Class<T> type) {
+        Cache cache = cacheManager.getCache(cacheName);
+        return cache == null ? null : cache.get(key, type);
+    }
+
+    private void put(String cacheName, String key, Object value) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && value != null) {
+            cache.put(key, value);
+        }
+    }
+
+    /*
+     * Async counterpart of @Cacheable: a hit completes immediately on the calling thread, a miss is fetched
+     * off-thread and written to the same cache under the key usernameKeyGenerator gives the annotated method.
+     */
+    private <T, R> CompletableFuture<Optional<T>> cachedAsync(String cacheName, String key, Class<T> type,
+                                                             Supplier<CompletableFuture<R>> fetch,
+                                                             Function<R, Optional<T>> extract) {
+        T cached = cached(cacheName, key, type);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(Optional.of(cached));
+        }
+        long start = System.nanoTime();
+        return fetch.get().thenApply(extract)
+                .whenComplete((result, error) -> cacheMetrics.recordLoad(cacheName, System.nanoTime() - start, error == null))
+                .thenApply(result -> {
+                    result.ifPresent(value -> put(cacheName, key, value));
+                    return result;
+                });
+    }
+
+    @Cacheable(value = "userRecentSubmissionsCache", keyGenerator = "usernameKeyGenerator", sync = true)
     public Optional<UserRecentSubmissionsResponse.DataNode> getUserRecentSubmissions(String username, int limit) {
+        unknownUsers.check(username);
         if(limit <= 0){
             throw new BadRequestException("Limit must be greater than 0");
         }
 
         Logger.info("Fetching recent submissions for user: {}", username);
-        var response = leetCodeClient.fetchUserRecentSubmissions(username,limit);
+        return toRecentSubmissions(username, leetCodeClient.fetchUserRecentSubmissions(username,limit));
+    }
 
+    public CompletableFuture<Optional<UserRecentSubmissionsResponse.DataNode>> getUserRecentSubmissionsAsync(String username, int limit) {
+        unknownUsers.check(username);
+        if(limit <= 0){
+            throw new BadRequestException("Limit must be greater than 0");
+        }
+
+        Logger.info("Fetching recent submissions for user: {}", username);
+        return cachedAsync("userRecentSubmissionsCache", UsernameKeyGenerator.keyFor(username, limit),
+                UserRecentSubmissionsResponse.DataNode.class,
+                () -> leetCodeClient.fetchUserRecentSubmissionsAsync(username, limit), response -> toRecentSubmissions(username, response));
+    }
+
+    private Optional<UserRecentSubmissionsResponse.DataNode> toRecentSubmissions(String username, UserRecentSubmissionsResponse response) {
         if (Objects.nonNull(response) && Objects.nonNull(response.getData())) {
             Logger.info("Recent submissions found for user: {}", username);
             var dataNode = response.getData();
@@ -119,17 +299,33 @@ public class LeetCodeService {
         }
 
         Logger.warn("No recent submissions found for user: {}", username);
-        throw new UserNotFoundException(username);
+        throw unknownUsers.notFound(username);
     }
 
+    @Cacheable(value = "userCalendarCache", keyGenerator = "usernameKeyGenerator", sync = true)
     public Optional<UserCalendarDTO> getUserLeetCodeCalendar(String username,int year) {
+        unknownUsers.check(username);
         if(year < 2015 || year > Year.now().getValue()){
             throw new BadRequestException("Year must be between 2015 and current year");
         }
 
         Logger.info("Fetching LeetCode calendar for user: {}", username);
-        var response = leetCodeClient.fetchUserLeetCodeCalendar(username,year);
+        return toCalendar(username, leetCodeClient.fetchUserLeetCodeCalendar(username,year));
+    }
+
+    public CompletableFuture<Optional<UserCalendarDTO>> getUserLeetCodeCalendarAsync(String username, int year) {
+        unknownUsers.check(username);
+        if(year < 2015 || year > Year.now().getValue()){
+            throw new BadRequestException("Year must be between 2015 and current year");
+        }
+
+        Logger.info("Fetching LeetCode calendar for user: {}", username);
+        return cachedAsync("userCalendarCache", UsernameKeyGenerator.keyFor(username, year),
+                UserCalendarDTO.class,
+                () -> leetCodeClient.fetchUserLeetCodeCalendarAsync(username, year), response -> toCalendar(username, response));
+    }
 
+    private Optional<UserCalendarDTO> toCalendar(String username, UserLeetCodeCalendarResponse response) {
         if (Objects.nonNull(response) && Objects.nonNull(response.getData())) {
             Logger.info("LeetCode calendar found for user: {}", username);
 
@@ -156,6 +352,6 @@ public class LeetCodeService {
         }
 
         Logger.warn("No LeetCode calendar found for user: {}", username);
-        throw new UserNotFoundException(username);
+        throw unknownUsers.notFound(username);
     }
 }
\ No newline at end of file
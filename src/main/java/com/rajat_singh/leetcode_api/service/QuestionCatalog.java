@@ -0,0 +1,483 @@
+package com.rajat_singh.leetcode_api.service;
+
+import com.rajat_singh.leetcode_api.dto.QuestionResponseDTO;
+import com.rajat_singh.leetcode_api.dto.QuestionSearchRequest;
+import com.rajat_singh.leetcode_api.dto.QuestionSuggestionDTO;
+import com.rajat_singh.leetcode_api.entity.QuestionEntity;
+import com.rajat_singh.leetcode_api.entity.TopicTag;
+import com.rajat_singh.leetcode_api.enums.Catalog;
+import com.rajat_singh.leetcode_api.enums.questions.FilterOperator;
+import com.rajat_singh.leetcode_api.enums.questions.QuestionDifficulty;
+import com.rajat_singh.leetcode_api.events.CatalogUpdatedEvent;
+import com.rajat_singh.leetcode_api.mappers.QuestionMapper;
+import com.rajat_singh.leetcode_api.repository.QuestionsRepository;
+import jakarta.annotation.PostConstruct;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.tinylog.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.IntUnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The question catalog held in memory as one array per column, so /questions/search is a scan over a few
+ * thousand rows instead of a join, a DISTINCT and a count query against SQLite. A snapshot is never modified:
+ * each sync builds a new one from the database and swaps it in, so searches never wait on sync writes.
+ *
+ * Topic and difficulty filters are answered from compressed bitmaps of row numbers, one per topic slug and
+ * per difficulty, so IS / IS_NOT and ALL / ANY become OR / ANDNOT / AND over a few bitmaps. Keywords go through
+ * a trigram index over titles and slugs: the rows holding every trigram of the keyword are intersected with
+ * the filters, and only those few are checked against the keyword itself; fuzzy searches use FuzzyTitleIndex
+ * instead, and autocomplete a TitlePrefixTrie. Filters follow
+ * QuestionSpecificationService, which stays the reference for their SQL semantics, including NULL columns
+ * never matching and ties keeping id order.
+ */
+@Component
+public class QuestionCatalog {
+
+    // sort property for SortField.RELEVANCE
+    public static final String RELEVANCE = "relevance";
+
+    private static final QuestionDifficulty[] DIFFICULTIES = QuestionDifficulty.values();
+
+    /*
+     * Row i is the i-th question in id order. Ranks are positions in the SQL sort order of a column, with
+     * 0 reserved for NULL so that it sorts first, as it does in SQLite.
+     */
+    private record Snapshot(int[] ids,
+                            int[] difficultyRanks,
+                            double[] acRates,
+                            int[] acRateRanks,
+                            String[] titles,
+                            String[] slugs,
+                            // every three-character run of a row's lowercased title and slug
+                            Map<Long, RoaringBitmap> byTrigram,
+                            FuzzyTitleIndex fuzzyTitles,
+                            TitlePrefixTrie prefixes,
+                            RoaringBitmap all,
+                            // rows whose difficulty is not NULL, the only ones a NOT IN can match
+                            RoaringBitmap withDifficulty,
+                            RoaringBitmap[] byDifficulty,
+                            // rows with at least one tag, the only ones the SQL tag join keeps
+                            RoaringBitmap tagged,
+                            Map<String, RoaringBitmap> byTopic,
+                            QuestionResponseDTO[] rows) {
+
+        int size() {
+            return ids.length;
+        }
+    }
+
+    private final QuestionsRepository questionRepository;
+    private final QuestionMapper questionMapper;
+
+    private volatile Snapshot snapshot;
+
+    public QuestionCatalog(QuestionsRepository questionRepository, QuestionMapper questionMapper) {
+        this.questionRepository = questionRepository;
+        this.questionMapper = questionMapper;
+    }
+
+    @PostConstruct
+    public synchronized void rebuild() {
+        long startTime = System.nanoTime();
+        List<QuestionEntity> questions = new ArrayList<>(questionRepository.findAll());
+        questions.sort(Comparator.comparingInt(QuestionEntity::getId));
+        snapshot = build(questions);
+        Logger.info("Built question catalog of {} questions in {} ms", questions.size(), (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    /*
+     * Runs before CatalogVersion moves to the new version, so no ETag of the new version is handed out for
+     * a response built from the old snapshot.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onCatalogUpdated(CatalogUpdatedEvent event) {
+        if (event.catalog() == Catalog.QUESTIONS) {
+            rebuild();
+        }
+    }
+
+    /*
+     * With fuzzy set, keyword words may be misspelt and an unsorted search comes back best match first.
+     */
+    public Page<QuestionResponseDTO> search(QuestionSearchRequest.FilterCriteria filters, String searchKeyword, boolean fuzzy,
+                                            Pageable pageable) {
+        Snapshot current = snapshot;
+        RoaringBitmap candidates = filter(current, filters);
+        boolean hasKeyword = searchKeyword != null && !searchKeyword.isEmpty();
+
+        int[] found;
+        // rank of a found row by how well it matches the keyword, lower is better
+        IntUnaryOperator relevance = null;
+        Sort sort = pageable.getSort();
+        if (hasKeyword && fuzzy) {
+            FuzzyTitleIndex.Match match = current.fuzzyTitles().match(searchKeyword);
+            found = RoaringBitmap.and(candidates, match.rows()).toArray();
+            relevance = match.distance();
+            sort = sort.isSorted() ? sort : Sort.by(RELEVANCE);
+        } else if (hasKeyword) {
+            Keyword keyword = Keyword.of(searchKeyword);
+            RoaringBitmap containing = withTrigrams(current, keyword.needle());
+            String[] titles = current.titles();
+            String[] slugs = current.slugs();
+            found = (containing == null ? candidates : RoaringBitmap.and(candidates, containing)).stream()
+                    .filter(row -> keyword.matches(titles[row]) || keyword.matches(slugs[row]))
+                    .toArray();
+            relevance = row -> Keyword.BEST - keyword.score(titles[row], slugs[row]);
+        } else {
+            found = candidates.toArray();
+        }
+        found = sort(current, found, sort, relevance);
+
+        // sized by the rows actually on the page, not by the client-supplied limit
+        long end = Math.min(found.length, pageable.getOffset() + pageable.getPageSize());
+        List<QuestionResponseDTO> content = new ArrayList<>((int) Math.max(0, end - pageable.getOffset()));
+        for (long i = pageable.getOffset(); i < end; i++) {
+            content.add(current.rows()[found[(int) i]]);
+        }
+        return new PageImpl<>(content, pageable, found.length);
+    }
+
+    /*
+     * Up to limit questions whose title, a word of it, or frontend id starts with prefix, best first.
+     */
+    public List<QuestionSuggestionDTO> autocomplete(String prefix, int limit) {
+        Snapshot current = snapshot;
+        int[] found = current.prefixes().suggest(prefix, Math.min(limit, TitlePrefixTrie.MAX_SUGGESTIONS));
+        List<QuestionSuggestionDTO> suggestions = new ArrayList<>(found.length);
+        for (int row : found) {
+            QuestionResponseDTO question = current.rows()[row];
+            suggestions.add(new QuestionSuggestionDTO(question.getId(), question.getTitle(), question.getTitleSlug(),
+                    question.getDifficulty(), question.getAcRate()));
+        }
+        return suggestions;
+    }
+
+    // --- Filters, mirroring QuestionSpecificationService ---
+
+    private RoaringBitmap filter(Snapshot current, QuestionSearchRequest.FilterCriteria filters) {
+        if (filters == null) {
+            return current.all();
+        }
+
+        List<RoaringBitmap> allFilters = new ArrayList<>();
+        boolean joinsTags = false;
+        if (filters.getDifficultyFilter() != null && filters.getDifficultyFilter().getDifficulties() != null) {
+            allFilters.add(withDifficulties(current, filters.getDifficultyFilter()));
+        }
+        if (filters.getTopicFilter() != null && filters.getTopicFilter().getTopicSlugs() != null) {
+            allFilters.add(withTopics(current, filters.getTopicFilter()));
+            joinsTags = filters.getTopicFilter().getOperator() != FilterOperator.IS_NOT;
+        }
+        if (filters.getAcceptanceFilter() != null) {
+            allFilters.add(withAcceptanceRate(current, filters.getAcceptanceFilter()));
+        }
+        if (filters.getFrontendIdFilter() != null) {
+            allFilters.add(withFrontendId(current, filters.getFrontendIdFilter()));
+        }
+
+        if (allFilters.isEmpty()) {
+            return current.all();
+        }
+
+        RoaringBitmap[] bitmaps = allFilters.toArray(RoaringBitmap[]::new);
+        RoaringBitmap combined = "ALL".equalsIgnoreCase(filters.getFilterCombineType())
+                ? FastAggregation.and(bitmaps)
+                : FastAggregation.or(bitmaps);
+        // the SQL version inner-joins the tags, which drops untagged questions even under ANY
+        return joinsTags ? RoaringBitmap.and(combined, current.tagged()) : combined;
+    }
+
+    /*
+     * Rows that can contain needle: those holding every trigram of its literal parts. Null when the keyword is
+     * too short to have a trigram, and every row has to be checked.
+     */
+    private RoaringBitmap withTrigrams(Snapshot current, String needle) {
+        List<RoaringBitmap> postings = new ArrayList<>();
+        for (String literal : needle.split("[%_]")) {
+            for (int i = 0; i + 3 <= literal.length(); i++) {
+                RoaringBitmap posting = current.byTrigram().get(trigram(literal, i));
+                if (posting == null) {
+                    return new RoaringBitmap();
+                }
+                postings.add(posting);
+            }
+        }
+        return postings.isEmpty() ? null : FastAggregation.and(postings.iterator());
+    }
+
+    private static long trigram(String text, int start) {
+        return (long) text.charAt(start) << 32 | (long) text.charAt(start + 1) << 16 | text.charAt(start + 2);
+    }
+
+    /*
+     * lower(title) LIKE '%keyword%', where % and _ in the keyword are wildcards too. The slug is matched the
+     * same way, so a pasted "two-sum" finds Two Sum.
+     */
+    private record Keyword(String needle, Pattern pattern) {
+
+        static final int BEST = 4;
+
+        static Keyword of(String keyword) {
+            String needle = keyword.toLowerCase();
+            if (needle.indexOf('%') < 0 && needle.indexOf('_') < 0) {
+                return new Keyword(needle, null);
+            }
+            StringBuilder regex = new StringBuilder();
+            StringBuilder literal = new StringBuilder();
+            for (char c : needle.toCharArray()) {
+                if (c == '%' || c == '_') {
+                    if (!literal.isEmpty()) {
+                        regex.append(Pattern.quote(literal.toString()));
+                        literal.setLength(0);
+                    }
+                    regex.append(c == '%' ? ".*" : ".");
+                } else {
+                    literal.append(c);
+                }
+            }
+            if (!literal.isEmpty()) {
+                regex.append(Pattern.quote(literal.toString()));
+            }
+            return new Keyword(needle, Pattern.compile(regex.toString(), Pattern.DOTALL));
+        }
+
+        boolean matches(String text) {
+            return text != null && (pattern == null ? text.contains(needle) : pattern.matcher(text).find());
+        }
+
+        /*
+         * BEST for the whole title, then a title prefix, a match at a word start, anywhere in the title, and
+         * 0 for a slug-only match.
+         */
+        int score(String title, String slug) {
+            if (title != null) {
+                int start = -1;
+                int end = -1;
+                if (pattern == null) {
+                    start = title.indexOf(needle);
+                    end = start + needle.length();
+                } else {
+                    Matcher matcher = pattern.matcher(title);
+                    if (matcher.find()) {
+                        start = matcher.start();
+                        end = matcher.end();
+                    }
+                }
+                if (start == 0) {
+                    return end == title.length() ? BEST : 3;
+                }
+                if (start > 0) {
+                    return Character.isLetterOrDigit(title.charAt(start - 1)) ? 1 : 2;
+                }
+            }
+            return 0;
+        }
+    }
+
+    private RoaringBitmap withDifficulties(Snapshot current, QuestionSearchRequest.DifficultyFilter filter) {
+        boolean not = filter.getOperator() == FilterOperator.IS_NOT;
+        if (filter.getDifficulties().isEmpty()) {
+            // an empty IN list is plain false, without the NULL check
+            return not ? current.all() : new RoaringBitmap();
+        }
+        RoaringBitmap in = FastAggregation.or(filter.getDifficulties().stream()
+                .map(difficulty -> current.byDifficulty()[difficulty.ordinal()])
+                .toArray(RoaringBitmap[]::new));
+        return not ? RoaringBitmap.andNot(current.withDifficulty(), in) : in;
+    }
+
+    private RoaringBitmap withTopics(Snapshot current, QuestionSearchRequest.TopicFilter filter) {
+        RoaringBitmap any = FastAggregation.or(filter.getTopicSlugs().stream()
+                .map(current.byTopic()::get)
+                .filter(Objects::nonNull)
+                .toArray(RoaringBitmap[]::new));
+        return filter.getOperator() == FilterOperator.IS_NOT ? RoaringBitmap.andNot(current.all(), any) : any;
+    }
+
+    private RoaringBitmap withAcceptanceRate(Snapshot current, QuestionSearchRequest.RangeFilter filter) {
+        double[] acRates = current.acRates();
+        double left = filter.getRangeLeft();
+        double right = filter.getRangeRight();
+        RoaringBitmap matching = new RoaringBitmap();
+        for (int row = 0; row < acRates.length; row++) {
+            // NaN stands for NULL and fails both comparisons
+            if (acRates[row] >= left && acRates[row] <= right) {
+                matching.add(row);
+            }
+        }
+        return matching;
+    }
+
+    /*
+     * Rows are in id order, so an id range is a row range.
+     */
+    private RoaringBitmap withFrontendId(Snapshot current, QuestionSearchRequest.RangeFilter filter) {
+        int from = lowerBound(current.ids(), (int) filter.getRangeLeft());
+        int to = lowerBound(current.ids(), (long) (int) filter.getRangeRight() + 1);
+        return from < to ? RoaringBitmap.bitmapOfRange(from, to) : new RoaringBitmap();
+    }
+
+    private static int lowerBound(int[] sorted, long value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // --- Sorting ---
+
+    /*
+     * Rows come in id order, so sorting by (rank, row) keeps ties in id order as SQLite does; descending
+     * flips the rank only. Relevance always puts the best matches first, and is id order without a keyword.
+     */
+    private int[] sort(Snapshot current, int[] found, Sort sort, IntUnaryOperator relevance) {
+        Sort.Order order = sort.stream().findFirst().orElse(null);
+        if (order == null || (order.getProperty().equals(RELEVANCE) && relevance == null)) {
+            return found;
+        }
+        IntUnaryOperator ranks = switch (order.getProperty()) {
+            case "acRate" -> row -> current.acRateRanks()[row];
+            case "difficulty" -> row -> current.difficultyRanks()[row];
+            case RELEVANCE -> relevance;
+            default -> null;
+        };
+        boolean descending = order.isDescending() && !order.getProperty().equals(RELEVANCE);
+        if (ranks == null) {
+            if (descending) {
+                reverse(found);
+            }
+            return found;
+        }
+        long[] keys = new long[found.length];
+        for (int i = 0; i < found.length; i++) {
+            long rank = descending ? Integer.MAX_VALUE - ranks.applyAsInt(found[i]) : ranks.applyAsInt(found[i]);
+            keys[i] = rank << 32 | found[i];
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < keys.length; i++) {
+            found[i] = (int) keys[i];
+        }
+        return found;
+    }
+
+    private static void reverse(int[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+    }
+
+    // --- Building a snapshot ---
+
+    private Snapshot build(List<QuestionEntity> questions) {
+        int size = questions.size();
+        int[] ids = new int[size];
+        double[] acRates = new double[size];
+        String[] titles = new String[size];
+        String[] slugs = new String[size];
+        Map<Long, RoaringBitmap> byTrigram = new HashMap<>();
+        RoaringBitmap withDifficulty = new RoaringBitmap();
+        RoaringBitmap[] byDifficulty = new RoaringBitmap[DIFFICULTIES.length];
+        Arrays.setAll(byDifficulty, i -> new RoaringBitmap());
+        RoaringBitmap tagged = new RoaringBitmap();
+        Map<String, RoaringBitmap> byTopic = new HashMap<>();
+        QuestionResponseDTO[] rows = new QuestionResponseDTO[size];
+
+        for (int row = 0; row < size; row++) {
+            QuestionEntity question = questions.get(row);
+            ids[row] = question.getId();
+            acRates[row] = question.getAcRate() == null ? Double.NaN : question.getAcRate();
+            titles[row] = question.getTitle() == null ? null : question.getTitle().toLowerCase();
+            slugs[row] = question.getTitleSlug() == null ? null : question.getTitleSlug().toLowerCase();
+            for (String text : new String[]{titles[row], slugs[row]}) {
+                for (int i = 0; text != null && i + 3 <= text.length(); i++) {
+                    byTrigram.computeIfAbsent(trigram(text, i), key -> new RoaringBitmap()).add(row);
+                }
+            }
+            if (question.getDifficulty() != null) {
+                withDifficulty.add(row);
+                for (QuestionDifficulty known : DIFFICULTIES) {
+                    if (known.name().equalsIgnoreCase(question.getDifficulty())) {
+                        byDifficulty[known.ordinal()].add(row);
+                    }
+                }
+            }
+            List<TopicTag> tags = question.getTopicTags() == null ? List.of() : question.getTopicTags();
+            if (!tags.isEmpty()) {
+                tagged.add(row);
+            }
+            for (TopicTag tag : tags) {
+                if (tag.getSlug() != null) {
+                    byTopic.computeIfAbsent(tag.getSlug(), slug -> new RoaringBitmap()).add(row);
+                }
+            }
+            rows[row] = questionMapper.entityToResponseDTO(question);
+        }
+
+        withDifficulty.runOptimize();
+        Arrays.stream(byDifficulty).forEach(RoaringBitmap::runOptimize);
+        tagged.runOptimize();
+        byTopic.values().forEach(RoaringBitmap::runOptimize);
+        byTrigram.values().forEach(RoaringBitmap::runOptimize);
+        int[] acRateRanks = acRateRanks(acRates);
+        return new Snapshot(ids, difficultyRanks(questions), acRates, acRateRanks, titles, slugs, Map.copyOf(byTrigram),
+                FuzzyTitleIndex.build(titles),
+                TitlePrefixTrie.build(titles, ids, byAcceptanceRate(acRateRanks)),
+                RoaringBitmap.bitmapOfRange(0, size), withDifficulty, byDifficulty, tagged, Map.copyOf(byTopic), rows);
+    }
+
+    /*
+     * ORDER BY difficulty compares the stored strings, so "Easy" < "Hard" < "Medium".
+     */
+    private static int[] difficultyRanks(List<QuestionEntity> questions) {
+        TreeSet<String> distinct = new TreeSet<>();
+        questions.stream().map(QuestionEntity::getDifficulty).filter(difficulty -> difficulty != null).forEach(distinct::add);
+        List<String> sorted = List.copyOf(distinct);
+        return questions.stream()
+                .mapToInt(question -> question.getDifficulty() == null ? 0 : sorted.indexOf(question.getDifficulty()) + 1)
+                .toArray();
+    }
+
+    /*
+     * Highest acceptance rate first, NULL last.
+     */
+    private static int[] byAcceptanceRate(int[] acRateRanks) {
+        int highest = Arrays.stream(acRateRanks).max().orElse(0);
+        return Arrays.stream(acRateRanks).map(rank -> rank == 0 ? highest + 1 : highest - rank).toArray();
+    }
+
+    private static int[] acRateRanks(double[] acRates) {
+        double[] distinct = Arrays.stream(acRates).filter(acRate -> !Double.isNaN(acRate)).sorted().distinct().toArray();
+        return Arrays.stream(acRates)
+                .mapToInt(acRate -> Double.isNaN(acRate) ? 0 : Arrays.binarySearch(distinct, acRate) + 1)
+                .toArray();
+    }
+}
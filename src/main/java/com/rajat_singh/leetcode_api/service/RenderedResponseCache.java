@@ -0,0 +1,76 @@
+package com.rajat_singh.leetcode_api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rajat_singh.leetcode_api.config.CacheMetrics;
+import com.rajat_singh.leetcode_api.events.CatalogUpdatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.tinylog.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Final response bytes of the hot catalog endpoints, plain and gzipped, keyed by the response's ETag. The ETag
+ * carries the catalog version, so a render that races a sync can never be served afterwards; the sync's
+ * CatalogUpdatedEvent only frees the old entries early.
+ */
+@Component
+public class RenderedResponseCache {
+
+    public record Rendered(byte[] body, byte[] gzipped) {}
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Rendered> rendered;
+
+    public RenderedResponseCache(ObjectMapper objectMapper,
+                                 CacheMetrics cacheMetrics,
+                                 @Value("${leetcode.cache.rendered.max-size:64MB}") DataSize maxSize) {
+        this.objectMapper = objectMapper;
+        this.rendered = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .<String, Rendered>weigher((etag, value) -> value.body().length + value.gzipped().length)
+                .recordStats(() -> cacheMetrics.statsCounter("renderedResponseCache"))
+                .build();
+        cacheMetrics.monitor("renderedResponseCache", rendered);
+    }
+
+    /*
+     * The rendered response for etag, building it from body() on a miss. Null when body() returns null.
+     */
+    public Rendered get(String etag, Supplier<?> body) {
+        // a load through the cache: concurrent misses render once, and the render time lands in cache.load.latency
+        return rendered.get(etag, key -> {
+            Object value = body.get();
+            return value == null ? null : render(value);
+        });
+    }
+
+    @EventListener
+    public void onCatalogUpdated(CatalogUpdatedEvent event) {
+        String prefix = "\"" + event.catalog().name().toLowerCase() + "-";
+        rendered.asMap().keySet().removeIf(etag -> etag.startsWith(prefix));
+        Logger.info("Dropped rendered {} responses", event.catalog());
+    }
+
+    private Rendered render(Object value) {
+        try {
+            // same mapper as the message converters, so cached and uncached responses are byte-identical
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            ByteArrayOutputStream gzipped = new ByteArrayOutputStream(body.length / 4);
+            try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+                out.write(body);
+            }
+            return new Rendered(body, gzipped.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.rajat_singh.leetcode_api.service;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.rajat_singh.leetcode_api.entity.ResponseCacheEntity;
+import com.rajat_singh.leetcode_api.repository.ResponseCacheRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.tinylog.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The persistent (L2) tier behind the Caffeine caches: gzipped JSON rows in the response_cache table of
+ * ./data/leetcode.db. Reads are synchronous primary-key lookups; writes and deletes are queued onto a single
+ * writer thread (SQLite allows one writer anyway) so request threads never wait on a disk commit.
+ */
+@Service
+public class ResponseCacheStore {
+
+    public record Entry(Object value, long expiresAt) {}
+
+    private final ResponseCacheRepository responseCacheRepository;
+    private final ObjectMapper typedMapper;
+    private final ObjectWriter typedWriter;
+    private final ThreadPoolExecutor writer;
+    private final MeterRegistry meterRegistry;
+
+    public ResponseCacheStore(ResponseCacheRepository responseCacheRepository,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${leetcode.cache.l2.write-queue-capacity:10000}") int writeQueueCapacity) {
+        this.responseCacheRepository = responseCacheRepository;
+        this.meterRegistry = meterRegistry;
+        // values are read back as Object, so the concrete DTO types have to travel with the JSON
+        this.typedMapper = objectMapper.copy()
+                .disable(SerializationFeature.INDENT_OUTPUT)
+                .activateDefaultTyping(BasicPolymorphicTypeValidator.builder()
+                                .allowIfSubType("com.rajat_singh.leetcode_api.")
+                                .allowIfSubType("java.util.")
+                                .build(),
+                        ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        this.typedWriter = typedMapper.writerFor(Object.class);
+        this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(writeQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "response-cache-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, executor) -> {
+                    meterRegistry.counter("leetcode.cache.l2.dropped").increment();
+                    Logger.warn("Response cache write queue is full, dropping write");
+                });
+        meterRegistry.gauge("leetcode.cache.l2.write.queue.size", writer.getQueue(), Queue::size);
+    }
+
+    /*
+     * The stored value, or null when there is none or it has expired.
+     */
+    public Entry load(String cacheName, Object key) {
+        try {
+            ResponseCacheEntity row = responseCacheRepository.findById(id(cacheName, key))
+                    .filter(found -> found.getExpiresAt() > System.currentTimeMillis())
+                    .orElse(null);
+            Entry entry = row == null ? null : new Entry(decode(row.getPayload()), row.getExpiresAt());
+            meterRegistry.counter("leetcode.cache.l2.gets", "cache", cacheName, "result", entry == null ? "miss" : "hit").increment();
+            return entry;
+        } catch (Exception e) {
+            Logger.warn("Unable to read {} from response cache {}: {}", key, cacheName, e.getMessage());
+            return null;
+        }
+    }
+
+    public void save(String cacheName, Object key, Object value, long expiresAt) {
+        writer.execute(() -> {
+            try {
+                ResponseCacheEntity row = new ResponseCacheEntity();
+                row.setId(id(cacheName, key));
+                row.setCacheName(cacheName);
+                row.setPayload(encode(value));
+                row.setExpiresAt(expiresAt);
+                responseCacheRepository.save(row);
+            } catch (Exception e) {
+                Logger.warn("Unable to write {} to response cache {}: {}", key, cacheName, e.getMessage());
+            }
+        });
+    }
+
+    public void delete(String cacheName, Object key) {
+        writer.execute(() -> responseCacheRepository.deleteById(id(cacheName, key)));
+    }
+
+    public void clear(String cacheName) {
+        writer.execute(() -> responseCacheRepository.deleteByCacheName(cacheName));
+    }
+
+    @Scheduled(fixedRate = 60 * 60 * 1000)
+    public void purgeExpired() {
+        writer.execute(() -> {
+            int purged = responseCacheRepository.deleteExpired(System.currentTimeMillis());
+            Logger.info("Purged {} expired response cache rows", purged);
+        });
+    }
+
+    @PreDestroy
+    void flush() throws InterruptedException {
+        writer.shutdown();
+        if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+            Logger.warn("Response cache writer did not finish, {} writes lost", writer.getQueue().size());
+        }
+    }
+
+    private String id(String cacheName, Object key) {
+        return cacheName + "/" + key;
+    }
+
+    private byte[] encode(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            typedWriter.writeValue(out, value);
+        }
+        return bytes.toByteArray();
+    }
+
+    private Object decode(byte[] payload) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return typedMapper.readValue(in, Object.class);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.rajat_singh.leetcode_api.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefix trie over normalized question titles, the start of every title word, and frontend ids, built once per
+ * catalog snapshot. Each node keeps its best {@link #MAX_SUGGESTIONS} rows already ranked, so a lookup is a walk
+ * down the prefix and a copy: no subtree search per keystroke. Once built the nodes are flattened into a few
+ * arrays, which keeps tens of thousands of nodes to a handful of objects.
+ *
+ * Ranking within a node: a frontend id match first (lowest id first), then titles starting with the prefix,
+ * then titles with a later word starting with it, each by acceptance rate.
+ */
+final class TitlePrefixTrie {
+
+    static final int MAX_SUGGESTIONS = 10;
+
+    // match kinds, best first
+    private static final long ID = 0;
+    private static final long TITLE = 1;
+    private static final long WORD = 2;
+    private static final int ROW_BITS = 21;
+    private static final long ROW_MASK = (1L << ROW_BITS) - 1;
+
+    // node i's children are childChars / childNodes [childStart[i], childStart[i + 1]), sorted by char
+    private final int[] childStart;
+    private final char[] childChars;
+    private final int[] childNodes;
+    // node i's ranked rows are rows [rowStart[i], rowStart[i + 1])
+    private final int[] rowStart;
+    private final int[] rows;
+
+    private TitlePrefixTrie(int[] childStart, char[] childChars, int[] childNodes, int[] rowStart, int[] rows) {
+        this.childStart = childStart;
+        this.childChars = childChars;
+        this.childNodes = childNodes;
+        this.rowStart = rowStart;
+        this.rows = rows;
+    }
+
+    private static final class Node {
+        final Map<Character, Node> children = new HashMap<>(2);
+        // ranking keys (kind, score, row), smallest first, at most MAX_SUGGESTIONS and one per row
+        long[] best = new long[0];
+    }
+
+    /*
+     * scores rank rows within a match kind, lower first; row i is the question with frontend id ids[i].
+     */
+    static TitlePrefixTrie build(String[] titles, int[] ids, int[] scores) {
+        Node root = new Node();
+        for (int row = 0; row < titles.length; row++) {
+            insert(root, Integer.toString(ids[row]), key(ID, row, row));
+            String title = normalize(titles[row]).trim();
+            for (int start = 0; start < title.length(); start++) {
+                if (start == 0 || title.charAt(start - 1) == ' ') {
+                    insert(root, title.substring(start), key(start == 0 ? TITLE : WORD, scores[row], row));
+                }
+            }
+        }
+        return flatten(root);
+    }
+
+    /*
+     * Rows (catalog row numbers) of the best matches for prefix, at most limit of them.
+     */
+    int[] suggest(String prefix, int limit) {
+        String key = normalize(prefix).stripLeading();
+        if (key.isEmpty() || limit <= 0) {
+            return new int[0];
+        }
+        int node = 0;
+        for (int i = 0; i < key.length() && node >= 0; i++) {
+            node = child(node, key.charAt(i));
+        }
+        if (node < 0) {
+            return new int[0];
+        }
+        int count = Math.min(limit, rowStart[node + 1] - rowStart[node]);
+        return Arrays.copyOfRange(rows, rowStart[node], rowStart[node] + count);
+    }
+
+    /*
+     * Lowercase, with every run of other characters than letters and digits turned into one space, so
+     * "Two-Sum II" and "two sum ii" are the same key.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+                space = false;
+            } else if (!space) {
+                normalized.append(' ');
+                space = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private int child(int node, char c) {
+        int found = Arrays.binarySearch(childChars, childStart[node], childStart[node + 1], c);
+        return found < 0 ? -1 : childNodes[found];
+    }
+
+    private static long key(long kind, int score, int row) {
+        return kind << 2 * ROW_BITS | (long) score << ROW_BITS | row;
+    }
+
+    private static void insert(Node root, String text, long key) {
+        Node node = root;
+        for (int i = 0; i < text.length(); i++) {
+            node = node.children.computeIfAbsent(text.charAt(i), c -> new Node());
+            offer(node, key);
+        }
+    }
+
+    private static void offer(Node node, long key) {
+        int row = (int) (key & ROW_MASK);
+        long[] best = node.best;
+        for (int i = 0; i < best.length; i++) {
+            if ((int) (best[i] & ROW_MASK) == row) {
+                if (key >= best[i]) {
+                    return;
+                }
+                // a better match for a row already here: drop the old one and re-insert
+                long[] without = new long[best.length - 1];
+                System.arraycopy(best, 0, without, 0, i);
+                System.arraycopy(best, i + 1, without, i, best.length - i - 1);
+                best = without;
+                break;
+            }
+        }
+        int at = Arrays.binarySearch(best, key);
+        at = at < 0 ? -at - 1 : at;
+        if (at >= MAX_SUGGESTIONS) {
+            node.best = best;
+            return;
+        }
+        long[] updated = new long[Math.min(MAX_SUGGESTIONS, best.length + 1)];
+        System.arraycopy(best, 0, updated, 0, at);
+        updated[at] = key;
+        System.arraycopy(best, at, updated, at + 1, updated.length - at - 1);
+        node.best = updated;
+    }
+
+    /*
+     * Breadth-first numbering, so a node's children are contiguous in the child arrays.
+     */
+    private static TitlePrefixTrie flatten(Node root) {
+        List<Node> nodes = new ArrayList<>();
+        nodes.add(root);
+        for (int i = 0; i < nodes.size(); i++) {
+            nodes.addAll(sortedChildren(nodes.get(i)));
+        }
+
+        int[] childStart = new int[nodes.size() + 1];
+        char[] childChars = new char[nodes.size() - 1];
+        int[] childNodes = new int[nodes.size() - 1];
+        int[] rowStart = new int[nodes.size() + 1];
+        int rowCount = nodes.stream().mapToInt(node -> node.best.length).sum();
+        int[] rows = new int[rowCount];
+
+        int nextChild = 0;
+        int nextNode = 1;
+        int nextRow = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            Node node = nodes.get(i);
+            childStart[i] = nextChild;
+            for (Map.Entry<Character, Node> child : sortedEntries(node)) {
+                childChars[nextChild] = child.getKey();
+                childNodes[nextChild] = nextNode++;
+                nextChild++;
+            }
+            rowStart[i] = nextRow;
+            for (long key : node.best) {
+                rows[nextRow++] = (int) (key & ROW_MASK);
+            }
+        }
+        childStart[nodes.size()] = nextChild;
+        rowStart[nodes.size()] = nextRow;
+        return new TitlePrefixTrie(childStart, childChars, childNodes, rowStart, rows);
+    }
+
+    private static List<Node> sortedChildren(Node node) {
+        return sortedEntries(node).stream().map(Map.Entry::getValue).toList();
+    }
+
+    private static List<Map.Entry<Character, Node>> sortedEntries(Node node) {
+        return node.children.entrySet().stream().sorted(Map.Entry.comparingByKey()).toList();
+    }
+}
@@ -0,0 +1,55 @@
+package com.rajat_singh.leetcode_api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rajat_singh.leetcode_api.config.CacheMetrics;
+import com.rajat_singh.leetcode_api.config.UsernameKeyGenerator;
+import com.rajat_singh.leetcode_api.exceptions.UserNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.tinylog.Logger;
+
+import java.time.Duration;
+
+/**
+ * Usernames leetcode.com recently told us do not exist. Shared by every /users/{username} endpoint, so a bot
+ * or a typo repeating the same name costs one upstream call per TTL instead of one per request.
+ */
+@Component
+public class UnknownUserCache {
+
+    private final Cache<String, Boolean> unknownUsers;
+
+    public UnknownUserCache(CacheMetrics cacheMetrics,
+                            @Value("${leetcode.cache.unknown-users.ttl:10m}") Duration ttl,
+                            @Value("${leetcode.cache.unknown-users.maximum-size:100000}") long maximumSize) {
+        this.unknownUsers = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats(() -> cacheMetrics.statsCounter("unknownUserCache"))
+                .build();
+        cacheMetrics.monitor("unknownUserCache", unknownUsers);
+    }
+
+    /*
+     * Throws straight away for a username that is known not to exist.
+     */
+    public void check(String username) {
+        if (unknownUsers.getIfPresent(UsernameKeyGenerator.keyFor(username)) != null) {
+            Logger.debug("User {} is known not to exist, skipping upstream call", username);
+            throw new UserNotFoundException(username);
+        }
+    }
+
+    /*
+     * Remembers username as missing and returns the exception to throw, e.g. throw unknownUsers.notFound(username).
+     */
+    public UserNotFoundException notFound(String username) {
+        unknownUsers.put(UsernameKeyGenerator.keyFor(username), Boolean.TRUE);
+        return new UserNotFoundException(username);
+    }
+
+    public void forget(String username) {
+        unknownUsers.invalidate(UsernameKeyGenerator.keyFor(username));
+    }
+}
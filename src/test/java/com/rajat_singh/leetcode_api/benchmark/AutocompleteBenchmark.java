@@ -0,0 +1,74 @@
+package com.rajat_singh.leetcode_api.benchmark;
+
+import com.rajat_singh.leetcode_api.LeetcodeApiApplication;
+import com.rajat_singh.leetcode_api.dto.QuestionSuggestionDTO;
+import com.rajat_singh.leetcode_api.repository.QuestionsRepository;
+import com.rajat_singh.leetcode_api.service.QuestionCatalog;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One /questions/autocomplete lookup in the {@link QuestionCatalog}'s prefix trie, sampled so p50 / p99 show
+ * up next to the mean. Runs over the synthetic catalog of {@link QuestionSearchBenchmark}, cycling through
+ * what a user types keystroke by keystroke: title and word prefixes, ids, and prefixes nothing starts with.
+ * Run with the test classpath, e.g. from the IDE or
+ * {@code java -cp target/test-classes:target/classes:<deps> ...AutocompleteBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutocompleteBenchmark {
+
+    private static final String[] PREFIXES = {"t", "tw", "two", "two s", "two sum", "l", "lon", "longest pal",
+            "bin", "binary tree l", "jump", "game", "1", "12", "123", "merge k", "  Valid-Par", "xq", "zzz"};
+
+    private Path database;
+    private ConfigurableApplicationContext context;
+    private QuestionCatalog questionCatalog;
+    private int nextPrefix;
+
+    @Setup
+    public void setUp() throws IOException {
+        database = Files.createTempFile("autocomplete-benchmark", ".db");
+        context = new SpringApplicationBuilder(LeetcodeApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:sqlite:" + database + "?busy_timeout=30000&transaction_mode=IMMEDIATE",
+                        "--scheduler.enabled=false",
+                        "--leetcode.cache.l2.enabled=false");
+        questionCatalog = context.getBean(QuestionCatalog.class);
+
+        context.getBean(QuestionsRepository.class).saveAll(QuestionSearchBenchmark.syntheticQuestions());
+        questionCatalog.rebuild();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        Files.deleteIfExists(database);
+    }
+
+    @Benchmark
+    public List<QuestionSuggestionDTO> autocomplete() {
+        String prefix = PREFIXES[nextPrefix];
+        nextPrefix = (nextPrefix + 1) % PREFIXES.length;
+        return questionCatalog.autocomplete(prefix, 10);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AutocompleteBenchmark.class.getSimpleName()).build()).run();
+    }
+}
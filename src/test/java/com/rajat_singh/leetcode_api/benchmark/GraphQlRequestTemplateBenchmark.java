@@ -0,0 +1,72 @@
+package com.rajat_singh.leetcode_api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.rajat_singh.leetcode_api.client.GraphQlRequestTemplate;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.rajat_singh.leetcode_api.graphql.GraphQlQueries.UserPublicInfoQuery;
+
+/**
+ * Request body construction for one LeetCodeClient call: the per-call HashMap/HttpEntity + Jackson path
+ * the client used before, against the pre-serialized {@link GraphQlRequestTemplate}.
+ * Run with the test classpath, e.g. from the IDE or
+ * {@code java -cp target/test-classes:target/classes:<deps> ...GraphQlRequestTemplateBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphQlRequestTemplateBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ObjectWriter writer;
+    private GraphQlRequestTemplate template;
+
+    @Setup
+    public void setUp() {
+        writer = objectMapper.writer();
+        template = GraphQlRequestTemplate.of(writer, "userPublicProfile", UserPublicInfoQuery);
+    }
+
+    @Benchmark
+    public byte[] perCallMaps() throws JsonProcessingException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.add("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64)");
+        headers.add("Referer", "https://leetcode.com");
+        headers.add("Origin", "https://leetcode.com");
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("query", UserPublicInfoQuery);
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("username", "rajat069");
+        requestBody.put("variables", variables);
+        requestBody.put("operationName", "userPublicProfile");
+
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+        return objectMapper.writeValueAsBytes(entity.getBody());
+    }
+
+    @Benchmark
+    public byte[] preSerializedTemplate() {
+        return template.render(writer, Map.of("username", "rajat069"));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(GraphQlRequestTemplateBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,227 @@
+package com.rajat_singh.leetcode_api.benchmark;
+
+import com.rajat_singh.leetcode_api.LeetcodeApiApplication;
+import com.rajat_singh.leetcode_api.dto.QuestionResponseDTO;
+import com.rajat_singh.leetcode_api.dto.QuestionSearchRequest;
+import com.rajat_singh.leetcode_api.entity.QuestionEntity;
+import com.rajat_singh.leetcode_api.entity.TopicTag;
+import com.rajat_singh.leetcode_api.enums.questions.FilterOperator;
+import com.rajat_singh.leetcode_api.enums.questions.QuestionDifficulty;
+import com.rajat_singh.leetcode_api.mappers.QuestionMapper;
+import com.rajat_singh.leetcode_api.repository.QuestionsRepository;
+import com.rajat_singh.leetcode_api.service.QuestionCatalog;
+import com.rajat_singh.leetcode_api.service.QuestionSpecificationService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One page of /questions/search: the JPA Specification query against SQLite that the service used before,
+ * against the bitmap-indexed {@link QuestionCatalog}. Both run over the same synthetic catalog of
+ * LeetCode's size, written to a throwaway SQLite file. Its titles are built from LeetCode's title words,
+ * so FUZZY_TITLE (misspelt keywords, fuzzy=true) does real typo matching; the catalog is sampled, so its
+ * p50 / p99 show up next to the mean. The Specification has no fuzzy mode and runs the same keywords as LIKE.
+ * Run with the test classpath, e.g. from the IDE or
+ * {@code java -cp target/test-classes:target/classes:<deps> ...QuestionSearchBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestionSearchBenchmark {
+
+    private static final int QUESTIONS = 3500;
+    private static final int TOPICS = 70;
+
+    private static final String[] TITLE_WORDS = {"two", "sum", "add", "numbers", "longest", "substring",
+            "without", "repeating", "characters", "median", "of", "sorted", "arrays", "palindromic", "zigzag",
+            "conversion", "reverse", "integer", "string", "to", "regular", "expression", "matching", "container",
+            "with", "most", "water", "roman", "common", "prefix", "closest", "letter", "combinations", "phone",
+            "number", "remove", "nth", "node", "from", "end", "list", "valid", "parentheses", "merge", "lists",
+            "generate", "k", "swap", "nodes", "in", "pairs", "group", "duplicates", "array", "element", "search",
+            "insert", "position", "rotated", "first", "last", "sudoku", "solver", "count", "and", "say", "trapping",
+            "rain", "wildcard", "jump", "game", "permutations", "rotate", "image", "anagrams", "maximum",
+            "subarray", "spiral", "matrix", "intervals", "unique", "paths", "minimum", "path", "climbing",
+            "stairs", "edit", "distance", "window", "binary", "tree", "inorder", "traversal", "level", "order",
+            "depth", "construct", "preorder", "balanced", "flatten", "linked", "triangle", "best", "time", "buy",
+            "sell", "stock", "word", "ladder", "consecutive", "sequence", "surrounded", "regions", "clone",
+            "graph", "gas", "station", "candy", "single", "break", "cycle", "lru", "cache", "product", "min",
+            "stack", "intersection", "peak", "majority", "house", "robber", "islands", "course", "schedule",
+            "trie", "kth", "largest", "smallest", "lowest", "ancestor", "sliding", "meeting", "rooms", "median",
+            "stream", "serialize", "deserialize", "increasing", "coin", "change", "top", "frequent", "elements",
+            "design", "twitter", "partition", "equal", "subset", "target", "subsequence", "decode", "ways"};
+    // families like Two Sum / Two Sum II / ..., which the rest of the catalog varies on
+    private static final String[] FAMOUS_TITLES = {"Two Sum", "Longest Palindromic Substring",
+            "Binary Tree Level Order Traversal", "Merge k Sorted Lists", "Valid Parentheses", "Maximum Subarray",
+            "Course Schedule", "Jump Game", "Trapping Rain Water", "Lowest Common Ancestor of a Binary Tree",
+            "Best Time to Buy and Sell Stock", "Word Search", "Number of Islands", "Coin Change", "House Robber",
+            "Climbing Stairs", "Edit Distance", "Sliding Window Maximum", "Kth Largest Element in an Array",
+            "Serialize and Deserialize Binary Tree"};
+    private static final String[] NUMERALS = {"", "", "", "", " II", " III", " IV"};
+    // misspellings a user types, cycled through so the sample covers short, long and multi-typo keywords
+    private static final String[] FUZZY_KEYWORDS = {"longest palindrom substrng", "tow sum", "binry tre level ordr",
+            "mergee k sorted lsts", "vaild parenthesis", "maximun subarary", "cource schedul", "jmp game",
+            "trappng rain watr", "lowest comon ancestr"};
+
+    @Param({"MULTI_TOPIC", "MULTI_TOPIC_NOT", "DIFFICULTY_AND_TOPICS", "DIFFICULTY_OR_TOPICS", "FUZZY_TITLE"})
+    public String query;
+
+    private Path database;
+    private ConfigurableApplicationContext context;
+    private QuestionsRepository questionRepository;
+    private QuestionSpecificationService specificationService;
+    private QuestionMapper questionMapper;
+    private QuestionCatalog questionCatalog;
+    private QuestionSearchRequest.FilterCriteria filters;
+    private String[] keywords;
+    private int nextKeyword;
+    private final Pageable pageable = PageRequest.of(0, 50);
+
+    @Setup
+    public void setUp() throws IOException {
+        database = Files.createTempFile("question-search-benchmark", ".db");
+        context = new SpringApplicationBuilder(LeetcodeApiApplication.class)
+                .web(WebApplicationType.NONE)
+                // as arguments, so they win over application.yml; IMMEDIATE transactions wait out startup writes instead of
+                // failing on a lock upgrade while seeding
+                .run("--spring.datasource.url=jdbc:sqlite:" + database + "?busy_timeout=30000&transaction_mode=IMMEDIATE",
+                        "--scheduler.enabled=false",
+                        "--leetcode.cache.l2.enabled=false");
+        questionRepository = context.getBean(QuestionsRepository.class);
+        specificationService = context.getBean(QuestionSpecificationService.class);
+        questionMapper = context.getBean(QuestionMapper.class);
+        questionCatalog = context.getBean(QuestionCatalog.class);
+
+        questionRepository.saveAll(syntheticQuestions());
+        questionCatalog.rebuild();
+        filters = filters(query);
+        keywords = query.equals("FUZZY_TITLE") ? FUZZY_KEYWORDS : new String[]{null};
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        Files.deleteIfExists(database);
+    }
+
+    @Benchmark
+    public Page<QuestionResponseDTO> specification() {
+        return questionRepository.findAll(specificationService.build(filters, keyword()), pageable)
+                .map(questionMapper::entityToResponseDTO);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public Page<QuestionResponseDTO> bitmapCatalog() {
+        String keyword = keyword();
+        return questionCatalog.search(filters, keyword, keyword != null, pageable);
+    }
+
+    private String keyword() {
+        String keyword = keywords[nextKeyword];
+        nextKeyword = (nextKeyword + 1) % keywords.length;
+        return keyword;
+    }
+
+    private static QuestionSearchRequest.FilterCriteria filters(String query) {
+        if (query.equals("FUZZY_TITLE")) {
+            return null;
+        }
+        QuestionSearchRequest.TopicFilter topics = QuestionSearchRequest.TopicFilter.builder()
+                .topicSlugs(List.of("topic-0", "topic-1", "topic-2", "topic-3"))
+                .operator(query.equals("MULTI_TOPIC_NOT") ? FilterOperator.IS_NOT : FilterOperator.IS)
+                .build();
+        QuestionSearchRequest.DifficultyFilter difficulties = QuestionSearchRequest.DifficultyFilter.builder()
+                .difficulties(List.of(QuestionDifficulty.MEDIUM, QuestionDifficulty.HARD))
+                .operator(FilterOperator.IS)
+                .build();
+        return switch (query) {
+            case "MULTI_TOPIC", "MULTI_TOPIC_NOT" -> QuestionSearchRequest.FilterCriteria.builder()
+                    .filterCombineType("ALL").topicFilter(topics).build();
+            case "DIFFICULTY_AND_TOPICS" -> QuestionSearchRequest.FilterCriteria.builder()
+                    .filterCombineType("ALL").topicFilter(topics).difficultyFilter(difficulties).build();
+            default -> QuestionSearchRequest.FilterCriteria.builder()
+                    .filterCombineType("ANY").topicFilter(topics).difficultyFilter(difficulties).build();
+        };
+    }
+
+    static List<QuestionEntity> syntheticQuestions() {
+        Random random = new Random(42);
+        String[] difficulties = {"Easy", "Medium", "Hard"};
+        Set<String> slugs = new HashSet<>();
+        List<QuestionEntity> questions = new ArrayList<>(QUESTIONS);
+        for (int id = 1; id <= QUESTIONS; id++) {
+            String title = title(random);
+            String slug = title.toLowerCase().replace(' ', '-');
+            if (!slugs.add(slug)) {
+                slug = slug + "-" + id;
+                slugs.add(slug);
+            }
+            QuestionEntity question = new QuestionEntity();
+            question.setId(id);
+            question.setTitle(title);
+            question.setTitleSlug(slug);
+            question.setDifficulty(difficulties[random.nextInt(difficulties.length)]);
+            question.setAcRate(20 + random.nextDouble() * 60);
+            question.setIsPaidOnly(random.nextInt(5) == 0);
+            question.setIsProblemOfTheDay(false);
+            question.setProblemUrl("https://leetcode.com/problems/" + slug + "/");
+            int tags = 1 + random.nextInt(4);
+            for (int i = 0; i < tags; i++) {
+                // skewed like the real catalog: a handful of topics (array, string, ...) are on most questions
+                int topic = (int) (TOPICS * Math.pow(random.nextDouble(), 3));
+                question.getTopicTags().add(new TopicTag("Topic " + topic, "topic-" + topic));
+            }
+            questions.add(question);
+        }
+        return questions;
+    }
+
+    /*
+     * One in ten is a well-known title, sometimes with a qualifier in front; the rest are two to six title
+     * words, capitalized like LeetCode's. Either may get a sequel numeral.
+     */
+    private static String title(Random random) {
+        StringBuilder title = new StringBuilder();
+        if (random.nextInt(10) == 0) {
+            if (random.nextBoolean()) {
+                String word = TITLE_WORDS[random.nextInt(TITLE_WORDS.length)];
+                title.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length()).append(' ');
+            }
+            title.append(FAMOUS_TITLES[random.nextInt(FAMOUS_TITLES.length)]);
+            return title.append(NUMERALS[random.nextInt(NUMERALS.length)]).toString();
+        }
+        int words = 2 + random.nextInt(5);
+        for (int i = 0; i < words; i++) {
+            String word = TITLE_WORDS[random.nextInt(TITLE_WORDS.length)];
+            if (i > 0) {
+                title.append(' ');
+            }
+            title.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+        }
+        return title.append(NUMERALS[random.nextInt(NUMERALS.length)]).toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(QuestionSearchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,88 @@
+package com.rajat_singh.leetcode_api.client;
+
+import com.rajat_singh.leetcode_api.enums.OutboundLane;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveRateLimiterTest {
+
+	private static final Duration PERIOD = Duration.ofMillis(100);
+	private static final Duration INTERACTIVE_TIMEOUT = Duration.ofSeconds(2);
+
+	private SimpleMeterRegistry meterRegistry;
+	private OutboundScheduler scheduler;
+	private AdaptiveRateLimiter limiter;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		RateLimiterRegistry registry = RateLimiterRegistry.of(RateLimiterConfig.custom()
+				.limitForPeriod(20)
+				.limitRefreshPeriod(PERIOD)
+				.timeoutDuration(INTERACTIVE_TIMEOUT)
+				.build());
+		scheduler = new OutboundScheduler(registry.rateLimiter("leetcode-api"), meterRegistry, 0.3, Duration.ofSeconds(10), Duration.ofSeconds(10));
+		limiter = new AdaptiveRateLimiter(registry, scheduler, meterRegistry, 2, 50, 0.5, Duration.ofMillis(1500));
+	}
+
+	@Test
+	void retryAfterBlocksEveryLaneUntilItHasPassed() {
+		throttle("1");
+
+		assertThat(limiter.getCurrentLimit()).isEqualTo(2);
+		long interactiveWait = timeAcquire(OutboundLane.INTERACTIVE);
+		// nothing goes out for the whole second, not just at the 2/period floor
+		assertThat(Duration.ofNanos(interactiveWait)).isGreaterThanOrEqualTo(Duration.ofMillis(950));
+		// once it has passed, calls flow again without waiting on the old pause
+		assertThat(Duration.ofNanos(timeAcquire(OutboundLane.BULK))).isLessThan(Duration.ofMillis(500));
+	}
+
+	@Test
+	void retryAfterLongerThanTheInteractiveTimeoutRejectsAtOnce() {
+		throttle("5");
+
+		long start = System.nanoTime();
+		assertThatThrownBy(() -> scheduler.acquire(OutboundLane.INTERACTIVE)).isInstanceOf(RequestNotPermitted.class);
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(100));
+		assertThat(meterRegistry.get("leetcode.client.lane.rejected").tag("lane", "interactive").counter().count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	void throttlingWithoutRetryAfterOnlyCutsTheLimit() {
+		throttle(null);
+
+		assertThat(limiter.getCurrentLimit()).isEqualTo(10);
+		assertThat(Duration.ofNanos(timeAcquire(OutboundLane.INTERACTIVE))).isLessThan(Duration.ofMillis(100));
+	}
+
+	private void throttle(String retryAfter) {
+		HttpHeaders headers = new HttpHeaders();
+		if (retryAfter != null) {
+			headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+		}
+		HttpClientErrorException tooManyRequests = HttpClientErrorException.create(
+				HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, new byte[0], null);
+		assertThatThrownBy(() -> limiter.record(() -> {
+			throw tooManyRequests;
+		})).isSameAs(tooManyRequests);
+	}
+
+	private long timeAcquire(OutboundLane lane) {
+		long start = System.nanoTime();
+		scheduler.acquire(lane);
+		return System.nanoTime() - start;
+	}
+}
@@ -0,0 +1,109 @@
+package com.rajat_singh.leetcode_api.client;
+
+import com.rajat_singh.leetcode_api.enums.OutboundLane;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboundSchedulerTest {
+
+	private static final Duration PERIOD = Duration.ofMillis(100);
+
+	@Test
+	void interactiveP99IsUnaffectedByConcurrentBulkSync() throws InterruptedException {
+		long baselineP99 = p99(interactiveLatencies(newScheduler(), 0, new AtomicInteger()));
+
+		AtomicInteger bulkCalls = new AtomicInteger();
+		long underSyncP99 = p99(interactiveLatencies(newScheduler(), 4, bulkCalls));
+
+		// the sync really was competing for permits the whole time...
+		assertThat(bulkCalls.get()).isGreaterThan(50);
+		// ...yet user calls never had to wait for the next period (100 ms) to get one
+		assertThat(Duration.ofNanos(underSyncP99))
+				.isLessThan(Duration.ofNanos(baselineP99).plus(PERIOD.dividedBy(5)));
+	}
+
+	@Test
+	void prefetchGivesUpLongBeforeBulk() {
+		RateLimiter rateLimiter = RateLimiter.of("leetcode-api", RateLimiterConfig.custom()
+				.limitForPeriod(10)
+				.limitRefreshPeriod(Duration.ofMinutes(1))
+				.timeoutDuration(Duration.ZERO)
+				.build());
+		OutboundScheduler scheduler = new OutboundScheduler(rateLimiter, new SimpleMeterRegistry(), 0.3,
+				Duration.ofMillis(200), Duration.ofMinutes(5));
+		// leave only the interactive reserve (3 of 10) in a period that does not refresh during the test
+		for (int i = 0; i < 7; i++) {
+			scheduler.acquire(OutboundLane.INTERACTIVE);
+		}
+
+		long start = System.nanoTime();
+		assertThatThrownBy(() -> scheduler.acquire(OutboundLane.PREFETCH)).isInstanceOf(RequestNotPermitted.class);
+		assertThat(Duration.ofNanos(System.nanoTime() - start))
+				.isGreaterThanOrEqualTo(Duration.ofMillis(200))
+				.isLessThan(Duration.ofSeconds(5));
+	}
+
+	private OutboundScheduler newScheduler() {
+		RateLimiter rateLimiter = RateLimiter.of("leetcode-api", RateLimiterConfig.custom()
+				.limitForPeriod(20)
+				.limitRefreshPeriod(PERIOD)
+				.timeoutDuration(Duration.ofSeconds(2))
+				.build());
+		return new OutboundScheduler(rateLimiter, new SimpleMeterRegistry(), 0.3, Duration.ofSeconds(10), Duration.ofSeconds(10));
+	}
+
+	/*
+	 * One user issuing a call every 20 ms (5 per period, inside the 6-permit interactive reserve)
+	 * while bulkThreads sync workers take permits as fast as the scheduler lets them.
+	 */
+	private List<Long> interactiveLatencies(OutboundScheduler scheduler, int bulkThreads, AtomicInteger bulkCalls)
+			throws InterruptedException {
+		AtomicBoolean syncRunning = new AtomicBoolean(true);
+		List<Thread> workers = new ArrayList<>();
+		for (int i = 0; i < bulkThreads; i++) {
+			Thread worker = new Thread(() -> {
+				while (syncRunning.get()) {
+					scheduler.acquire(OutboundLane.BULK);
+					bulkCalls.incrementAndGet();
+				}
+			});
+			worker.setDaemon(true);
+			worker.start();
+			workers.add(worker);
+		}
+		Thread.sleep(PERIOD.toMillis() * 2);
+
+		List<Long> latencies = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			long start = System.nanoTime();
+			scheduler.acquire(OutboundLane.INTERACTIVE);
+			latencies.add(System.nanoTime() - start);
+			Thread.sleep(20);
+		}
+
+		syncRunning.set(false);
+		for (Thread worker : workers) {
+			worker.join(PERIOD.toMillis() * 20);
+		}
+		return latencies;
+	}
+
+	private long p99(List<Long> latencies) {
+		List<Long> sorted = new ArrayList<>(latencies);
+		Collections.sort(sorted);
+		return sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+	}
+}
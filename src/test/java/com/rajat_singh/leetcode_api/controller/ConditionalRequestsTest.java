@@ -0,0 +1,30 @@
+package com.rajat_singh.leetcode_api.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalRequestsTest {
+
+	@Test
+	void gzipIsAcceptedWhenListedWithAPositiveQuality() {
+		assertThat(ConditionalRequests.acceptsGzip("gzip, deflate, br")).isTrue();
+		assertThat(ConditionalRequests.acceptsGzip("br, GZIP;q=0.5")).isTrue();
+		assertThat(ConditionalRequests.acceptsGzip("*;q=0.1")).isTrue();
+	}
+
+	@Test
+	void gzipWithAZeroQualityIsARefusal() {
+		assertThat(ConditionalRequests.acceptsGzip("gzip;q=0")).isFalse();
+		assertThat(ConditionalRequests.acceptsGzip("gzip; q=0.0, br")).isFalse();
+		// an explicit gzip entry wins over the wildcard
+		assertThat(ConditionalRequests.acceptsGzip("gzip;q=0, *")).isFalse();
+	}
+
+	@Test
+	void gzipIsNotAssumedWhenNotListed() {
+		assertThat(ConditionalRequests.acceptsGzip(null)).isFalse();
+		assertThat(ConditionalRequests.acceptsGzip("identity")).isFalse();
+		assertThat(ConditionalRequests.acceptsGzip("br, deflate")).isFalse();
+	}
+}
@@ -0,0 +1,95 @@
+package com.rajat_singh.leetcode_api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FuzzyTitleIndexTest {
+
+	private static final List<String> TITLES = List.of(
+			"Two Sum",
+			"Two Sum II - Input Array Is Sorted",
+			"Longest Palindromic Substring",
+			"Longest Palindromic Subsequence",
+			"Merge k Sorted Lists",
+			"Jump Game II",
+			"Jump Game III",
+			"Sums of Two Arrays",
+			"Valid Parentheses");
+
+	private final FuzzyTitleIndex index = FuzzyTitleIndex.build(
+			TITLES.stream().map(String::toLowerCase).toArray(String[]::new));
+
+	@Test
+	void misspeltWordsStillFindTheTitle() {
+		// two edits away ("palindrom"), one away ("substrng")
+		assertThat(ranked("longest palindrom substrng")).first().isEqualTo("Longest Palindromic Substring");
+		// an adjacent swap counts as one edit
+		assertThat(ranked("tow sum")).contains("Two Sum", "Two Sum II - Input Array Is Sorted");
+		assertThat(ranked("vaild parenthesis")).containsExactly("Valid Parentheses");
+	}
+
+	@Test
+	void wordsOfOneOrTwoLettersMustMatchExactly() {
+		assertThat(ranked("merge k sorted lists")).containsExactly("Merge k Sorted Lists");
+		assertThat(ranked("merge x sorted lists")).isEmpty();
+		assertThat(ranked("jump game ii")).containsExactly("Jump Game II");
+		assertThat(ranked("jump game ij")).isEmpty();
+		// "iii" may be one edit off, but not from "ii", which itself allows none
+		assertThat(ranked("jump game iii")).containsExactly("Jump Game III");
+	}
+
+	@Test
+	void closerTitlesRankFirst() {
+		// the exact title, then one with extra words, then one reached only through typos
+		assertThat(ranked("two sum")).containsExactly(
+				"Two Sum", "Two Sum II - Input Array Is Sorted", "Sums of Two Arrays");
+		// equally close titles keep catalog order
+		assertThat(ranked("jump gmae")).containsExactly("Jump Game II", "Jump Game III");
+		// "subsequence" is three edits from "substring", one more than its length allows
+		assertThat(ranked("longest palindromic substring")).containsExactly("Longest Palindromic Substring");
+	}
+
+	@Test
+	void editDistanceGivesUpPastTheLimit() {
+		assertThat(FuzzyTitleIndex.distance("tow", "two", 1)).isEqualTo(1);
+		assertThat(FuzzyTitleIndex.distance("palindrom", "palindromic", 2)).isEqualTo(2);
+		assertThat(FuzzyTitleIndex.distance("substring", "subsequence", 2)).isEqualTo(3);
+	}
+
+	@Test
+	void nothingToMatch() {
+		assertThat(ranked("")).isEmpty();
+		assertThat(ranked("- !")).isEmpty();
+		assertThat(ranked("zebra")).isEmpty();
+	}
+
+	@Test
+	void oversizedQueriesAreTurnedAwayBeforeGeneratingDeletes() {
+		// the longest title words have 11 letters, so 13 is still within two edits
+		assertThat(ranked("parenthesesxx")).containsExactly("Valid Parentheses");
+		assertThat(ranked("parenthesesxxx")).isEmpty();
+		// would be millions of two-deletion variants
+		assertThat(ranked("a".repeat(3_000))).isEmpty();
+		assertThat(ranked("two sum ".repeat(FuzzyTitleIndex.MAX_QUERY_WORDS / 2))).contains("Two Sum");
+		assertThat(ranked("two sum ".repeat(FuzzyTitleIndex.MAX_QUERY_WORDS / 2) + "two")).isEmpty();
+		assertThat(ranked("two sum" + " ".repeat(FuzzyTitleIndex.MAX_KEYWORD_LENGTH))).isEmpty();
+	}
+
+	/*
+	 * Titles matching keyword, best first, ties in catalog order as QuestionCatalog sorts them.
+	 */
+	private List<String> ranked(String keyword) {
+		FuzzyTitleIndex.Match match = index.match(keyword);
+		return Arrays.stream(match.rows().toArray())
+				.boxed()
+				.sorted(Comparator.<Integer>comparingInt(row -> match.distance().applyAsInt(row))
+						.thenComparingInt(row -> row))
+				.map(TITLES::get)
+				.toList();
+	}
+}
@@ -0,0 +1,293 @@
+package com.rajat_singh.leetcode_api.service;
+
+import com.rajat_singh.leetcode_api.dto.QuestionResponseDTO;
+import com.rajat_singh.leetcode_api.dto.QuestionSearchRequest;
+import com.rajat_singh.leetcode_api.entity.QuestionEntity;
+import com.rajat_singh.leetcode_api.entity.TopicTag;
+import com.rajat_singh.leetcode_api.enums.questions.FilterOperator;
+import com.rajat_singh.leetcode_api.enums.questions.QuestionDifficulty;
+import com.rajat_singh.leetcode_api.mappers.QuestionMapper;
+import com.rajat_singh.leetcode_api.repository.QuestionsRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The in-memory catalog against the JPA Specification it replaced, on the same seeded SQLite file: every
+ * filter, keyword, sort and page below has to give the same page and total from both. The data is built
+ * to hit the SQL corner cases: NULL difficulty and acceptance rate, untagged questions, lowercase
+ * difficulties, tied acceptance rates, and titles holding % and _.
+ */
+@SpringBootTest(properties = {"scheduler.enabled=false", "leetcode.cache.l2.enabled=false"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QuestionCatalogTest {
+
+	private static final Path DATABASE = temporaryDatabase();
+
+	private static final String[] WORDS = {"two", "sum", "tree", "binary", "array", "string", "path", "maximum",
+			"minimum", "subarray", "linked", "list", "graph", "valid", "number", "of", "islands", "palindrome",
+			"substring", "longest", "k", "ii", "a"};
+
+	private static final List<String> KEYWORDS = List.of("sum", "SUM", "two sum", "tw", "a", "k", "%", "_", "s_m",
+			"100%", "%sum%", "tree%path", "snake_case", "e_", "__", "flip", "ii", "zzz", "-", "o");
+
+	private static final List<Sort> SORTS = List.of(Sort.unsorted(),
+			Sort.by(Sort.Direction.ASC, "acRate"), Sort.by(Sort.Direction.DESC, "acRate"),
+			Sort.by(Sort.Direction.ASC, "difficulty"), Sort.by(Sort.Direction.DESC, "difficulty"),
+			Sort.by(Sort.Direction.ASC, "id"), Sort.by(Sort.Direction.DESC, "id"));
+
+	private static final List<int[]> PAGES = List.of(new int[]{0, 20}, new int[]{3, 7}, new int[]{0, 1000});
+
+	@Autowired
+	private QuestionsRepository questionsRepository;
+	@Autowired
+	private QuestionSpecificationService specificationService;
+	@Autowired
+	private QuestionMapper questionMapper;
+	@Autowired
+	private QuestionCatalog questionCatalog;
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url",
+				() -> "jdbc:sqlite:" + DATABASE + "?busy_timeout=30000&transaction_mode=IMMEDIATE");
+	}
+
+	@BeforeAll
+	void seed() {
+		questionsRepository.saveAll(questions());
+		questionCatalog.rebuild();
+	}
+
+	@AfterAll
+	void deleteDatabase() throws IOException {
+		Files.deleteIfExists(DATABASE);
+	}
+
+	@Test
+	void filtersSortsAndPagesMatchTheSpecification() {
+		int compared = 0;
+		for (Map.Entry<String, QuestionSearchRequest.FilterCriteria> filters : filters().entrySet()) {
+			for (Sort sort : SORTS) {
+				for (int[] page : PAGES) {
+					assertSamePage(filters.getKey(), filters.getValue(), null, PageRequest.of(page[0], page[1], sort));
+					compared++;
+				}
+			}
+		}
+		assertThat(compared).isGreaterThan(100);
+	}
+
+	@Test
+	void keywordsMatchTheSpecificationPlusSlugs() {
+		int i = 0;
+		for (Map.Entry<String, QuestionSearchRequest.FilterCriteria> filters : filters().entrySet()) {
+			for (String keyword : KEYWORDS) {
+				// every sort and page shape comes round, without the whole cross product
+				int[] page = PAGES.get(i % PAGES.size());
+				Pageable pageable = PageRequest.of(page[0], page[1], SORTS.get(i % SORTS.size()));
+				assertSamePage(filters.getKey(), filters.getValue(), keyword, pageable);
+				i++;
+			}
+		}
+	}
+
+	@Test
+	void keywordCornerCasesAreNotVacuous() {
+		// the short and wildcard keywords skip or bend the trigram index, so make sure they find something
+		for (String keyword : List.of("tw", "a", "%", "_", "s_m", "100%", "snake_case", "tree%path", "flip")) {
+			assertThat(questionCatalog.search(null, keyword, false, PageRequest.of(0, 10)).getTotalElements())
+					.as("questions found for '%s'", keyword)
+					.isPositive();
+		}
+		// % and _ are wildcards, not literals: "100%" also finds titles with nothing after 100
+		assertThat(titles("100%")).contains("100% sum match", "find 100 sum");
+		assertThat(titles("snake_case")).contains("snake_case sum", "snake case sum");
+		assertThat(titles("flip")).contains("reverse words");
+	}
+
+	@Test
+	void aHugeLimitOnlyCostsWhatIsOnThePage() {
+		// the page list used to be sized by the limit, so these threw OutOfMemoryError
+		Page<QuestionResponseDTO> everything = questionCatalog.search(null, null, false, PageRequest.of(0, Integer.MAX_VALUE));
+		assertThat(everything.getContent()).hasSize((int) everything.getTotalElements());
+		assertThat(questionCatalog.search(null, null, false, PageRequest.of(1, 2_000_000_000)).getContent()).isEmpty();
+	}
+
+	private void assertSamePage(String filtersName, QuestionSearchRequest.FilterCriteria filters, String keyword,
+								Pageable pageable) {
+		Page<QuestionResponseDTO> expected = reference(filters, keyword, pageable);
+		Page<QuestionResponseDTO> actual = questionCatalog.search(filters, keyword, false, pageable);
+		String description = String.format("filters=%s keyword=%s pageable=%s", filtersName, keyword, pageable);
+		assertThat(actual.getTotalElements()).as(description).isEqualTo(expected.getTotalElements());
+		assertThat(actual.getContent()).as(description).containsExactlyElementsOf(expected.getContent());
+	}
+
+	/*
+	 * QuestionSpecificationService, with the slug match the catalog added on top of its title match.
+	 */
+	private Page<QuestionResponseDTO> reference(QuestionSearchRequest.FilterCriteria filters, String keyword, Pageable pageable) {
+		Specification<QuestionEntity> spec = specificationService.build(filters, keyword);
+		if (keyword != null && !keyword.isEmpty()) {
+			Specification<QuestionEntity> slugContains = (root, query, builder) ->
+					builder.like(builder.lower(root.get("titleSlug")), "%" + keyword.toLowerCase() + "%");
+			spec = spec.or(specificationService.build(filters, null).and(slugContains));
+		}
+		return questionsRepository.findAll(spec, pageable).map(questionMapper::entityToResponseDTO);
+	}
+
+	private List<String> titles(String keyword) {
+		return questionCatalog.search(null, keyword, false, PageRequest.of(0, 1000)).getContent().stream()
+				.map(QuestionResponseDTO::getTitle)
+				.filter(title -> title != null)
+				.map(String::toLowerCase)
+				.toList();
+	}
+
+	private static Map<String, QuestionSearchRequest.FilterCriteria> filters() {
+		Map<String, QuestionSearchRequest.FilterCriteria> filters = new LinkedHashMap<>();
+		filters.put("none", null);
+		filters.put("empty", QuestionSearchRequest.FilterCriteria.builder().filterCombineType("ALL").build());
+		filters.put("topics IS, ALL", criteria("ALL", topics(FilterOperator.IS, "topic-0", "topic-1"), null, null, null));
+		filters.put("topics IS_NOT", criteria("ALL", topics(FilterOperator.IS_NOT, "topic-0"), null, null, null));
+		filters.put("unknown topic", criteria("ALL", topics(FilterOperator.IS, "no-such-topic"), null, null, null));
+		// the tag join drops untagged questions even though the difficulty alone would match them
+		filters.put("topic OR difficulty", criteria("ANY", topics(FilterOperator.IS, "topic-2"),
+				difficulties(FilterOperator.IS, QuestionDifficulty.EASY), null, null));
+		filters.put("difficulty IS_NOT", criteria("ALL", null, difficulties(FilterOperator.IS_NOT, QuestionDifficulty.HARD), null, null));
+		filters.put("difficulty IN ()", criteria("ALL", null, difficulties(FilterOperator.IS), null, null));
+		filters.put("difficulty NOT IN ()", criteria("ALL", null, difficulties(FilterOperator.IS_NOT), null, null));
+		filters.put("acceptance AND id", criteria("ALL", null, null, range(30, 60), range(50, 250)));
+		filters.put("fractional id range", criteria("ALL", null, null, null, range(10.7, 40.2)));
+		filters.put("everything, ANY", criteria("ANY", topics(FilterOperator.IS_NOT, "topic-1", "topic-3"),
+				difficulties(FilterOperator.IS, QuestionDifficulty.MEDIUM, QuestionDifficulty.HARD), range(70, 100), range(1, 5)));
+		filters.put("everything, ALL", criteria("ALL", topics(FilterOperator.IS, "topic-0", "topic-4", "topic-5"),
+				difficulties(FilterOperator.IS_NOT, QuestionDifficulty.EASY), range(20, 80), range(1, 300)));
+		// neither ALL nor ANY combines with OR, like the Specification
+		filters.put("no combine type", criteria(null, null, difficulties(FilterOperator.IS, QuestionDifficulty.HARD), range(0, 25), null));
+		return filters;
+	}
+
+	private static QuestionSearchRequest.FilterCriteria criteria(String combineType,
+																 QuestionSearchRequest.TopicFilter topics,
+																 QuestionSearchRequest.DifficultyFilter difficulties,
+																 QuestionSearchRequest.RangeFilter acceptance,
+																 QuestionSearchRequest.RangeFilter frontendIds) {
+		return QuestionSearchRequest.FilterCriteria.builder()
+				.filterCombineType(combineType)
+				.topicFilter(topics)
+				.difficultyFilter(difficulties)
+				.acceptanceFilter(acceptance)
+				.frontendIdFilter(frontendIds)
+				.build();
+	}
+
+	private static QuestionSearchRequest.TopicFilter topics(FilterOperator operator, String... slugs) {
+		return QuestionSearchRequest.TopicFilter.builder().topicSlugs(List.of(slugs)).operator(operator).build();
+	}
+
+	private static QuestionSearchRequest.DifficultyFilter difficulties(FilterOperator operator, QuestionDifficulty... difficulties) {
+		return QuestionSearchRequest.DifficultyFilter.builder().difficulties(List.of(difficulties)).operator(operator).build();
+	}
+
+	private static QuestionSearchRequest.RangeFilter range(double left, double right) {
+		return QuestionSearchRequest.RangeFilter.builder().rangeLeft(left).rangeRight(right).build();
+	}
+
+	private static List<QuestionEntity> questions() {
+		List<QuestionEntity> questions = new ArrayList<>();
+		questions.add(question(1, "Two Sum", "two-sum", "Easy", 55.5, "topic-0"));
+		questions.add(question(2, "100% Sum Match", "one-hundred-percent-sum-match", "Medium", 40.0, "topic-1"));
+		questions.add(question(3, "Find 100 Sum", "find-100-sum", "Hard", 40.0));
+		questions.add(question(4, "snake_case Sum", "snake-case-sum", null, null, "topic-2"));
+		questions.add(question(5, "Snake Case Sum", "snake-case-sum-ii", "easy", 40.0, "topic-0", "topic-2"));
+		// found through its slug only
+		questions.add(question(6, "Reverse Words", "flip-words", "Medium", null));
+		questions.add(question(7, null, "untitled", "Hard", 12.5, "topic-3"));
+
+		Random random = new Random(7);
+		String[] difficulties = {"Easy", "Medium", "Hard", "Easy", "Medium", "Hard", "easy", null};
+		Set<String> slugs = new HashSet<>();
+		questions.forEach(question -> slugs.add(question.getTitleSlug()));
+		for (int id = 8; id <= 400; id++) {
+			// gaps in the ids, like paid and removed questions leave
+			if (random.nextInt(10) == 0) {
+				continue;
+			}
+			String[] words = new String[2 + random.nextInt(3)];
+			Arrays.setAll(words, i -> WORDS[random.nextInt(WORDS.length)]);
+			String title = capitalize(String.join(" ", words));
+			String slug = String.join("-", words);
+			if (!slugs.add(slug)) {
+				slug = slug + "-" + id;
+				slugs.add(slug);
+			}
+			// few distinct rates, so sorting by acceptance rate has plenty of ties
+			Double acRate = random.nextInt(15) == 0 ? null : 10 + 5.0 * random.nextInt(18);
+			String[] tags = new String[random.nextInt(4)];
+			Arrays.setAll(tags, i -> "topic-" + (int) (8 * Math.pow(random.nextDouble(), 2)));
+			questions.add(question(id, title, slug, difficulties[random.nextInt(difficulties.length)], acRate,
+					Arrays.stream(tags).distinct().toArray(String[]::new)));
+		}
+		return questions;
+	}
+
+	private static QuestionEntity question(int id, String title, String slug, String difficulty, Double acRate, String... topics) {
+		QuestionEntity question = new QuestionEntity();
+		question.setId(id);
+		question.setTitle(title);
+		question.setTitleSlug(slug);
+		question.setDifficulty(difficulty);
+		question.setAcRate(acRate);
+		question.setIsPaidOnly(id % 5 == 0);
+		question.setIsProblemOfTheDay(false);
+		question.setProblemUrl("https://leetcode.com/problems/" + slug + "/");
+		for (String topic : topics) {
+			question.getTopicTags().add(new TopicTag(topic.replace('-', ' '), topic));
+		}
+		return question;
+	}
+
+	private static String capitalize(String title) {
+		StringBuilder capitalized = new StringBuilder(title.length());
+		for (String word : title.split(" ")) {
+			if (!capitalized.isEmpty()) {
+				capitalized.append(' ');
+			}
+			capitalized.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+		}
+		return capitalized.toString();
+	}
+
+	private static Path temporaryDatabase() {
+		try {
+			return Files.createTempFile("question-catalog-test", ".db");
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
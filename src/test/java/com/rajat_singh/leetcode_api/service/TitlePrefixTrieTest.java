@@ -0,0 +1,123 @@
+package com.rajat_singh.leetcode_api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TitlePrefixTrieTest {
+
+	@Test
+	void frontendIdMatchesComeFirstLowestIdFirst() {
+		Catalog catalog = new Catalog()
+				.add(1, "Two Sum", 50)
+				.add(10, "Regular Expression Matching", 30)
+				.add(12, "Integer to Roman", 70)
+				.add(100, "Same Tree", 60)
+				.add(2000, "1-bit and 2-bit Characters", 90);
+
+		// 2000 has no id match, only its title starting with "1"
+		assertThat(catalog.suggest("1", 10)).containsExactly(1, 10, 12, 100, 2000);
+		assertThat(catalog.suggest("10", 10)).containsExactly(10, 100);
+		// found through its id and through its word "2-bit", suggested once
+		assertThat(catalog.suggest("2", 10)).containsExactly(2000);
+	}
+
+	@Test
+	void titlePrefixesComeBeforeLaterWordsEachByAcceptanceRate() {
+		Catalog catalog = new Catalog()
+				.add(1, "Sum of Left Leaves", 40)
+				.add(2, "Two Sum", 90)
+				.add(3, "Summary Ranges", 20)
+				.add(4, "Path Sum", 60)
+				.add(5, "Sum Root to Leaf Numbers", 70)
+				.add(6, "Consum", 99);
+
+		// titles starting with "sum" by acceptance rate, then titles with a later word starting with it;
+		// "consum" has "sum" inside a word only
+		assertThat(catalog.suggest("sum", 10)).containsExactly(5, 1, 3, 2, 4);
+		assertThat(catalog.suggest("sum", 2)).containsExactly(5, 1);
+	}
+
+	@Test
+	void aTitleFoundThroughSeveralWordsIsSuggestedOnce() {
+		Catalog catalog = new Catalog()
+				.add(1, "Two Sum Two", 50)
+				.add(2, "Sum Two Sum", 40)
+				.add(3, "Two Two Two", 10);
+
+		// row 1 as a title prefix and as its last word, row 3 three times over
+		assertThat(catalog.suggest("two", 10)).containsExactly(1, 3, 2);
+		assertThat(catalog.suggest("sum", 10)).containsExactly(2, 1);
+	}
+
+	@Test
+	void everyNodeKeepsOnlyTheBestSuggestions() {
+		Catalog catalog = new Catalog();
+		IntStream.rangeClosed(1, 25).forEach(id -> catalog.add(100 + id, "Tree Problem " + id, id));
+
+		// ranked by acceptance rate, highest first, and cut at MAX_SUGGESTIONS however large the limit
+		assertThat(catalog.suggest("tree", 50)).hasSize(TitlePrefixTrie.MAX_SUGGESTIONS)
+				.containsExactly(125, 124, 123, 122, 121, 120, 119, 118, 117, 116);
+	}
+
+	@Test
+	void prefixIsNormalizedLikeTheTitles() {
+		Catalog catalog = new Catalog()
+				.add(1, "Two Sum", 50)
+				.add(2, "Two-Sum II - Input Array Is Sorted", 60)
+				.add(3, "Twofold", 70);
+
+		assertThat(catalog.suggest("two-s", 10)).containsExactly(2, 1);
+		assertThat(catalog.suggest("  TWO  SUM", 10)).containsExactly(2, 1);
+		// a trailing separator means the word is complete
+		assertThat(catalog.suggest("two ", 10)).containsExactly(2, 1);
+		assertThat(catalog.suggest("two", 10)).containsExactly(3, 2, 1);
+		assertThat(catalog.suggest("sum ii input", 10)).containsExactly(2);
+		assertThat(catalog.suggest("", 10)).isEmpty();
+		assertThat(catalog.suggest(" - ", 10)).isEmpty();
+		assertThat(catalog.suggest("three", 10)).isEmpty();
+		assertThat(catalog.suggest("two", 0)).isEmpty();
+	}
+
+	@Test
+	void normalizeLowercasesAndCollapsesEverythingButLettersAndDigits() {
+		assertThat(TitlePrefixTrie.normalize("Two-Sum II")).isEqualTo("two sum ii");
+		assertThat(TitlePrefixTrie.normalize("  Pow(x, n)")).isEqualTo(" pow x n ");
+		assertThat(TitlePrefixTrie.normalize("1-bit and 2-bit")).isEqualTo("1 bit and 2 bit");
+		assertThat(TitlePrefixTrie.normalize(null)).isEmpty();
+	}
+
+	/*
+	 * Questions added in id order, as QuestionCatalog numbers its rows, and scored by acceptance rate the way
+	 * it does: highest first.
+	 */
+	private static final class Catalog {
+
+		private final List<String> titles = new ArrayList<>();
+		private final List<Integer> ids = new ArrayList<>();
+		private final List<Integer> acRates = new ArrayList<>();
+
+		Catalog add(int id, String title, int acRate) {
+			ids.add(id);
+			titles.add(title);
+			acRates.add(acRate);
+			return this;
+		}
+
+		/*
+		 * Frontend ids of the suggestions.
+		 */
+		int[] suggest(String prefix, int limit) {
+			TitlePrefixTrie trie = TitlePrefixTrie.build(
+					titles.toArray(String[]::new),
+					ids.stream().mapToInt(Integer::intValue).toArray(),
+					acRates.stream().mapToInt(acRate -> 100 - acRate).toArray());
+			return Arrays.stream(trie.suggest(prefix, limit)).map(ids::get).toArray();
+		}
+	}
+}